@@ -16,7 +16,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +35,7 @@ public class BoardController {
     @PostMapping("/save")
     public ResponseEntity<?> save(@AuthenticationPrincipal CustomUserDetails customUserDetails,
                        @ModelAttribute BoardDTO requestDTO,
-                       @RequestParam MultipartFile[] files) throws IOException {
+                       @RequestParam MultipartFile[] files) {
         try {
             Long userId = customUserDetails.getUser().getId();
             requestDTO.setCreateTime(LocalDateTime.now());
@@ -80,7 +79,7 @@ public class BoardController {
     @PostMapping("/update")
     public String update(
                          @ModelAttribute BoardDTO boardDTO,
-                         @RequestParam MultipartFile[] files) throws IOException {
+                         @RequestParam MultipartFile[] files) {
 
         boardService.update(boardDTO,files);
         return "redirect:/board/";
@@ -4,6 +4,8 @@ import com.example.funitureOnlineShop.boardFile.BoardFile;
 import com.example.funitureOnlineShop.boardFile.BoardFileRepository;
 import com.example.funitureOnlineShop.core.error.exception.Exception403;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.core.file.FileUploadService;
+import com.example.funitureOnlineShop.core.file.StoredFile;
 import com.example.funitureOnlineShop.user.User;
 import com.example.funitureOnlineShop.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,19 +14,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -34,7 +33,8 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardFileRepository boardFileRepository;
     private final UserRepository userRepository;
-    private final String filePath = "C:/Users/Ahyun/OneDrive/바탕 화면/카카오 로그인/수정본";
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
 
     public Page<BoardDTO> paging(Pageable pageable) {
 
@@ -55,55 +55,44 @@ public class BoardService {
                 board.getUpdateTime()));
     }
 
-    @Transactional
+    // ** 파일은 트랜잭션 밖에서 먼저 저장하고, DB 작업만 트랜잭션으로 묶음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void save(Long userId, BoardDTO dto,
-                     @RequestParam MultipartFile[] files) throws IOException {
-        dto.setCreateTime(LocalDateTime.now());
-        Optional<User> optionalUser = userRepository.findById(userId);
-        if (optionalUser.isEmpty())
-            throw new Exception403("인증받지 않은 회원");
-        User user = optionalUser.get();
-
-        try {
-            System.out.println(dto.toEntity().getId());
-            Board board = boardRepository.save(dto.toEntity());
-            board.updateUser(user);
-
-            // ** 파일 정보 저장.
-            if (!files[0].isEmpty()) {
-                for (MultipartFile file : files) {
-
-                    Path uploadPath = Paths.get(filePath);
-                    // ** 만약 경로가 없다면... 경로 생성.
-                    if (!Files.exists(uploadPath)) {
-                        Files.createDirectories(uploadPath);
-                    }
-                    // ** 파일명 추출
-                    String originalFileName = file.getOriginalFilename();
-                    // ** 확장자 추출
-                    String formatType = originalFileName.substring(
-                            originalFileName.lastIndexOf("."));
-                    // ** UUID 생성
-                    String uuid = UUID.randomUUID().toString();
-                    // ** 경로 지정
-                    String path = filePath + uuid + originalFileName;
-                    // ** 경로에 파일을 저장.  DB 아님
-                    file.transferTo(new File(path));
-
-                    BoardFile boardFile = BoardFile.builder()
-                            .filePath(filePath)
-                            .fileName(originalFileName)
-                            .uuid(uuid)
-                            .fileType(formatType)
-                            .fileSize(file.getSize())
-                            .board(board)
-                            .build();
-                    boardFileRepository.save(boardFile);
-                }
+                     @RequestParam MultipartFile[] files) {
+        List<StoredFile> storedFiles = fileUploadService.store(files, false);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dto.setCreateTime(LocalDateTime.now());
+            Optional<User> optionalUser = userRepository.findById(userId);
+            if (optionalUser.isEmpty())
+                throw new Exception403("인증받지 않은 회원");
+            User user = optionalUser.get();
+
+            try {
+                Board board = boardRepository.save(dto.toEntity());
+                board.updateUser(user);
+
+                // ** 파일 정보 저장.
+                saveFiles(storedFiles, board);
+            } catch (Exception e) {
+                throw new Exception500("게시판 저장 중 에러");
             }
-        } catch (Exception e) {
-            throw new Exception500("게시판 저장 중 에러");
-        }
+        });
+    }
+
+    // ** 저장된 파일들의 정보를 한 번에 저장 (배치 insert)
+    private void saveFiles(List<StoredFile> storedFiles, Board board) {
+        List<BoardFile> boardFiles = storedFiles.stream()
+                .map(storedFile -> BoardFile.builder()
+                        .fileName(storedFile.getFileName())
+                        .uuid(storedFile.getKey())
+                        .fileType(storedFile.getFileType())
+                        .fileSize(storedFile.getFileSize())
+                        .board(board)
+                        .build())
+                .collect(Collectors.toList());
+
+        boardFileRepository.saveAll(boardFiles);
     }
 
     public BoardDTO findById(Long id) {
@@ -116,49 +105,26 @@ public class BoardService {
         return boardFiles;
     }
 
-    @Transactional
-    public void update(BoardDTO boardDTO, MultipartFile[] files) throws IOException {
-        Optional<Board> boardOptional = boardRepository.findById(boardDTO.getId());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void update(BoardDTO boardDTO, MultipartFile[] files) {
+        List<StoredFile> storedFiles = fileUploadService.store(files, false);
 
-        if (boardOptional.isPresent()) {
-            Board board = boardOptional.get();
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<Board> boardOptional = boardRepository.findById(boardDTO.getId());
 
-            board.updateFromDTO(boardDTO);
+            if (boardOptional.isPresent()) {
+                Board board = boardOptional.get();
 
-            List<BoardFile> existingFiles = boardFileRepository.findByBoard(board);
-            for (BoardFile file : existingFiles) {
-                boardFileRepository.deleteById(file.getId());
-            }
+                board.updateFromDTO(boardDTO);
 
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {
-                    Path uploadPath = Paths.get(filePath);
-
-                    if (!Files.exists(uploadPath)) {
-                        Files.createDirectories(uploadPath);
-                    }
-
-                    String originalFileName = file.getOriginalFilename();
-                    String formatType = originalFileName.substring(originalFileName.lastIndexOf("."));
-                    String uuid = UUID.randomUUID().toString();
-                    String path = filePath + uuid + originalFileName;
-                    file.transferTo(new File(path));
-
-                    BoardFile boardFile = BoardFile.builder()
-                            .filePath(filePath)
-                            .fileName(originalFileName)
-                            .uuid(uuid)
-                            .fileType(formatType)
-                            .fileSize(file.getSize())
-                            .board(board)
-                            .build();
-
-                    boardFileRepository.save(boardFile);
-                }
-            }
+                List<BoardFile> existingFiles = boardFileRepository.findByBoard(board);
+                boardFileRepository.deleteAllInBatch(existingFiles);
 
-            boardRepository.save(board);
-        }
+                saveFiles(storedFiles, board);
+
+                boardRepository.save(board);
+            }
+        });
     }
 
     @Transactional
@@ -13,16 +13,20 @@ import javax.persistence.*;
 public class BoardFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 여러 파일을 한 번에 insert 할 수 있도록 id를 미리 50개씩 할당 (IDENTITY는 배치 insert 불가)
+    // 초기 데이터(data.sql)의 id와 겹치지 않도록 1000부터 시작
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_file_seq")
+    @TableGenerator(name = "board_file_seq", table = "id_generator",
+            pkColumnValue = "board_file", initialValue = 1000, allocationSize = 50)
     private Long id;
 
-    // ** 파일 경로
+    // ** 파일 경로 (예전 데이터용, 새 파일은 BlobStore 에 uuid 키로 저장되어 비어 있음)
     private String filePath;
 
     // ** 파일 이름
     private String fileName;
 
-    // ** uuid (랜덤 키)
+    // ** 저장소 키 (내용 해시)
     private String uuid;
 
     // ** 파일 포멧
@@ -1,11 +1,24 @@
 package com.example.funitureOnlineShop.boardFile;
 
 import com.example.funitureOnlineShop.board.Board;
+import com.example.funitureOnlineShop.core.file.BlobReferences;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BoardFileRepository extends JpaRepository<BoardFile, Long> {
+public interface BoardFileRepository extends JpaRepository<BoardFile, Long>, BlobReferences {
     List<BoardFile> findByBoardId(Long boardId);
     List<BoardFile> findByBoard(Board board);
+
+    // ** 예전 첨부 파일(BlobStore 이전) 경로 조회용
+    Optional<BoardFile> findFirstByUuidAndFileName(String uuid, String fileName);
+
+    // ** 파일 정리 시 참조 중인 저장소 키 확인
+    @Override
+    @Query("SELECT DISTINCT f.uuid FROM BoardFile f WHERE f.uuid IN :keys")
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
 }
@@ -0,0 +1,81 @@
+package com.example.funitureOnlineShop.cart;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// ** 회원별 장바구니 화면(FindAllDto) 캐시
+// ** 장바구니 / 상품 가격 / 옵션 가격이 바뀐 트랜잭션이 끝나면 비움
+@Component
+public class CartCache {
+
+    // ** 캐시할 최대 회원 수 (넘으면 가장 오래 안 쓴 회원부터 제거)
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Long, CartResponse.FindAllDto> carts =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CartResponse.FindAllDto> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    // ** 무효화될 때마다 증가. 조회 도중 무효화가 있었다면 조회 결과를 캐시하지 않음
+    private long generation;
+
+    public CartResponse.FindAllDto get(Long userId, Supplier<CartResponse.FindAllDto> loader) {
+        long loadedGeneration;
+        synchronized (this) {
+            CartResponse.FindAllDto cached = carts.get(userId);
+            if (cached != null)
+                return cached;
+            loadedGeneration = generation;
+        }
+
+        CartResponse.FindAllDto loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == loadedGeneration)
+                carts.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    // ** 한 회원의 장바구니 변경
+    public void evict(Long userId) {
+        afterCompletion(() -> {
+            synchronized (this) {
+                generation++;
+                carts.remove(userId);
+            }
+        });
+    }
+
+    // ** 상품 / 옵션 변경은 여러 회원의 장바구니에 걸쳐 있으므로 전부 비움
+    public void evictAll() {
+        afterCompletion(() -> {
+            synchronized (this) {
+                generation++;
+                carts.clear();
+            }
+        });
+    }
+
+    // ** 커밋 전에 비우면 다른 요청이 이전 데이터를 다시 캐시할 수 있으므로 트랜잭션이 끝난 뒤 비움
+    private static void afterCompletion(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.funitureOnlineShop.core.security.CustomUserDetails;
 import com.example.funitureOnlineShop.core.utils.ApiUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,11 +28,23 @@ public class CartController {
         return ResponseEntity.ok(apiResult);
     }
 
+    // ** 내 장바구니 목록 (커서 기반 페이지). 다음 페이지는 응답의 nextCursor 를 lastId 로 전달
     @GetMapping("/carts")
     public ResponseEntity<?> carts(@AuthenticationPrincipal CustomUserDetails customUserDetails,
-                                   Error error){
-        CartResponse.FindAllDto findAllDTO = cartService.findAll();
-        ApiUtils.ApiResult<?> apiResult= ApiUtils.success(findAllDTO);
+                                   @RequestParam(required = false) Long lastId,
+                                   @RequestParam(defaultValue = "20") int size){
+        CartResponse.FindPageDto findPageDto =
+                cartService.findPage(customUserDetails.getUser().getId(), lastId, size);
+        ApiUtils.ApiResult<?> apiResult= ApiUtils.success(findPageDto);
+        return ResponseEntity.ok(apiResult);
+    }
+
+    // !< 관리자용 > 옵션별 장바구니 집계
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/summary")
+    public ResponseEntity<?> summary(){
+        List<CartResponse.OptionSummaryDto> summaries = cartService.findOptionSummaries();
+        ApiUtils.ApiResult<?> apiResult= ApiUtils.success(summaries);
         return ResponseEntity.ok(apiResult);
     }
 
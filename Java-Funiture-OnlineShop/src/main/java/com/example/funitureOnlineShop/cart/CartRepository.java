@@ -1,11 +1,40 @@
 package com.example.funitureOnlineShop.cart;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CartRepository extends JpaRepository<Cart,Long> {
     List<Cart> findAllByUserId(Long id);
 
-    void deleteAllByUserId(Long id);
+    // ** 주문 생성용: 장바구니 + 옵션 + 상품을 한 번에 조회 (항목 수와 무관하게 쿼리 1회)
+    @Query("SELECT c FROM Cart c JOIN FETCH c.option o JOIN FETCH o.product " +
+            "WHERE c.user.id = :userId ORDER BY c.id")
+    List<Cart> findAllWithOptionAndProductByUserId(@Param("userId") Long userId);
+
+    // ** 커서(lastId) 다음부터 회원의 장바구니를 id 순으로 조회 (OFFSET / COUNT 없이 인덱스 범위 스캔)
+    @Query("SELECT c FROM Cart c JOIN FETCH c.option o JOIN FETCH o.product " +
+            "WHERE c.user.id = :userId AND c.id > :lastId ORDER BY c.id")
+    List<Cart> findPageByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // ** [옵션 id, 옵션명, 담긴 장바구니 수, 총 수량, 현재 가격 기준 총액] 목록
+    @Query("SELECT o.id, o.optionName, COUNT(c), SUM(c.quantity), SUM(c.quantity * (p.price + o.price)) " +
+            "FROM Cart c JOIN c.option o JOIN o.product p " +
+            "GROUP BY o.id, o.optionName ORDER BY o.id")
+    List<Object[]> sumGroupByOptionId();
+
+    // ** 회원의 장바구니 중 ids 에 해당하는 상품만 삭제. 삭제된 수를 반환
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids AND c.user.id = :userId")
+    int deleteAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // ** 회원의 장바구니 전체 삭제 (엔티티를 읽지 않고 한 문장으로)
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.user.id = :id")
+    int deleteAllByUserId(@Param("id") Long id);
 }
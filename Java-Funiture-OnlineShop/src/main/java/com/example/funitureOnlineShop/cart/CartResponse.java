@@ -4,63 +4,74 @@ import com.example.funitureOnlineShop.option.Option;
 import com.example.funitureOnlineShop.product.Product;
 import lombok.Data;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CartResponse {
 
-    @Setter
+    // ** CartCache 가 같은 회원의 요청마다 같은 객체를 돌려주므로 불변으로 유지 (setter 없음, 목록 수정 불가)
     @Getter
     @ToString
     public static class FindAllDto {
-        List<ProductDto> products;
+        private final List<ProductDto> products;
 
-        private Long totalPricing;
+        private final Long totalPricing;
 
         public FindAllDto(List<Cart> cartList) {
-            this.products = cartList.stream()
-                    .map(cart -> cart.getOption().getProduct()).distinct()
-                    .map(product -> new ProductDto(product, cartList)).collect(Collectors.toList());
-
+            // ** 상품 id별로 한 번에 묶음 (담은 순서 유지)
+            Map<Long, List<Cart>> cartsByProductId = new LinkedHashMap<>();
+            Map<Long, Product> productsById = new HashMap<>();
+            long total = 0L;
+            for (Cart cart : cartList) {
+                Product product = cart.getOption().getProduct();
+                cartsByProductId.computeIfAbsent(product.getId(), id -> new ArrayList<>()).add(cart);
+                productsById.putIfAbsent(product.getId(), product);
+                total += (product.getPrice() + cart.getOption().getPrice()) * cart.getQuantity();
+            }
 
-            this.totalPricing = cartList.stream()
-                    .mapToLong(cart -> (cart.getOption().getProduct().getPrice() + cart.getOption().getPrice()) * cart.getQuantity())
-                    .sum();
+            List<ProductDto> products = new ArrayList<>(cartsByProductId.size());
+            for (Map.Entry<Long, List<Cart>> entry : cartsByProductId.entrySet()) {
+                products.add(new ProductDto(productsById.get(entry.getKey()), entry.getValue()));
+            }
+            this.products = Collections.unmodifiableList(products);
+            this.totalPricing = total;
         }
 
-        @Setter
         @Getter
         public class ProductDto {
-            private Long id;
+            private final Long id;
 
-            private String productName;
+            private final String productName;
 
-            private Long deliveryFee;
+            private final Long deliveryFee;
 
-            List<CartDto> cartDtos;
+            private final List<CartDto> cartDtos;
 
-            public ProductDto(Product product, List<Cart> cartList){
+            // ** carts: 이 상품에 속한 장바구니 항목들
+            public ProductDto(Product product, List<Cart> carts){
                 this.id = product.getId();
                 this.productName = product.getProductName();
                 this.deliveryFee = product.getDeliveryFee();
-                this.cartDtos = cartList.stream()
-                        .filter(cart -> cart.getOption().getProduct().getId() == product.getId())
-                        .map(CartDto::new).collect(Collectors.toList());
+                this.cartDtos = Collections.unmodifiableList(carts.stream()
+                        .map(CartDto::new).collect(Collectors.toList()));
             }
 
-            @Setter
             @Getter
             public class CartDto {
-                private Long id;
+                private final Long id;
 
-                private OptionDto optionDto;
+                private final OptionDto optionDto;
 
-                private Long price;
+                private final Long price;
 
-                private Long quantity;
+                private final Long quantity;
 
                 public CartDto(Cart cart) {
                     this.id = cart.getId();
@@ -69,12 +80,11 @@ public class CartResponse {
                     this.quantity = cart.getQuantity();
                 }
 
-                @Setter
                 @Getter
                 public class OptionDto {
-                    private Long id;
-                    private String optionName;
-                    private Long price;
+                    private final Long id;
+                    private final String optionName;
+                    private final Long price;
 
                     public OptionDto(Option option) {
                         this.id = option.getId();
@@ -86,6 +96,66 @@ public class CartResponse {
         }
     }
 
+    @Getter
+    @ToString
+    public static class FindPageDto {
+        private final List<CartLineDto> carts;
+
+        // ** 다음 페이지 요청 시 lastId 로 넘길 값 (마지막 항목의 id)
+        private final Long nextCursor;
+
+        private final boolean hasNext;
+
+        public FindPageDto(List<Cart> cartList, boolean hasNext) {
+            this.carts = cartList.stream().map(CartLineDto::new).collect(Collectors.toList());
+            this.nextCursor = cartList.isEmpty() ? null : cartList.get(cartList.size() - 1).getId();
+            this.hasNext = hasNext;
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class CartLineDto {
+        private final Long id;
+        private final Long productId;
+        private final String productName;
+        private final Long optionId;
+        private final String optionName;
+        private final Long quantity;
+        private final Long price;
+
+        public CartLineDto(Cart cart) {
+            Option option = cart.getOption();
+            this.id = cart.getId();
+            this.productId = option.getProduct().getId();
+            this.productName = option.getProduct().getProductName();
+            this.optionId = option.getId();
+            this.optionName = option.getOptionName();
+            this.quantity = cart.getQuantity();
+            this.price = cart.getPrice();
+        }
+    }
+
+    @Getter
+    @ToString
+    public static class OptionSummaryDto {
+        private final Long optionId;
+        private final String optionName;
+        // ** 이 옵션을 담은 장바구니 수
+        private final Long cartCount;
+        private final Long totalQuantity;
+        // ** 현재 상품 + 옵션 가격 기준 총액
+        private final Long totalPrice;
+
+        public OptionSummaryDto(Long optionId, String optionName, Long cartCount, Long totalQuantity, Long totalPrice) {
+            this.optionId = optionId;
+            this.optionName = optionName;
+            this.cartCount = cartCount;
+            this.totalQuantity = totalQuantity;
+            this.totalPrice = totalPrice;
+        }
+    }
+
     @Data
     public static class UpdateDTO{
 
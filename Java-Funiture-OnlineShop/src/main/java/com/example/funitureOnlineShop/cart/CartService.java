@@ -1,13 +1,13 @@
 package com.example.funitureOnlineShop.cart;
 
 import com.example.funitureOnlineShop.core.error.exception.Exception401;
-import com.example.funitureOnlineShop.core.error.exception.Exception403;
 import com.example.funitureOnlineShop.core.error.exception.Exception404;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
 import com.example.funitureOnlineShop.option.Option;
 import com.example.funitureOnlineShop.option.OptionRepository;
 import com.example.funitureOnlineShop.user.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -22,10 +23,30 @@ import java.util.Set;
 public class CartService {
     private final CartRepository cartRepository;
     private final OptionRepository optionRepository;
+    private final CartCache cartCache;
 
-    public CartResponse.FindAllDto findAll() {
-        List<Cart> cartList = cartRepository.findAll();
-        return new CartResponse.FindAllDto(cartList);
+    // ** 장바구니 목록 한 페이지에 보여줄 수 있는 최대 항목 수
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // ** 내 장바구니를 lastId 다음부터 size 개 조회. 다음 페이지 여부를 알기 위해 한 개 더 읽음
+    public CartResponse.FindPageDto findPage(Long userId, Long lastId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Cart> carts = cartRepository.findPageByUserId(
+                userId, lastId == null ? 0L : lastId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = carts.size() > pageSize;
+        if (hasNext)
+            carts = carts.subList(0, pageSize);
+
+        return new CartResponse.FindPageDto(carts, hasNext);
+    }
+
+    // ** 관리자용: 옵션별 장바구니 수 / 수량 / 금액 집계 (GROUP BY 쿼리 1회)
+    public List<CartResponse.OptionSummaryDto> findOptionSummaries() {
+        return cartRepository.sumGroupByOptionId().stream()
+                .map(row -> new CartResponse.OptionSummaryDto(
+                        (Long) row[0], (String) row[1], (Long) row[2], (Long) row[3], (Long) row[4]))
+                .collect(Collectors.toList());
     }
 
 
@@ -45,6 +66,7 @@ public class CartService {
                 () -> new Exception404("해당 상품 옵션을 찾을 수 없습니다. " + saveDTOS.getOptionId()) //없으면 예외처리
         );
         Cart cart = saveDTOS.toEntity(option, user);
+        cartCache.evict(user.getId());
 
         // 카트에 상품 저장
         try {
@@ -80,6 +102,8 @@ public class CartService {
         if (cart == null)
             throw new Exception404("내 장바구니에 없는 상품입니다.");
 
+        cartCache.evict(user.getId());
+
         // 업데이트 요청에 따라 카트의 각 상품의 수량을 업데이트
         cart.update(requestDTO.getQuantity(),
                 (cart.getOption().getProduct().getPrice() + cart.getOption().getPrice())
@@ -90,26 +114,26 @@ public class CartService {
     }
 
 
+    // ** 내 장바구니 상품만 한 문장으로 삭제 (DELETE ... WHERE id IN (...) AND user_id = ?)
+    // ** 삭제된 수가 요청 수와 다르면 내 장바구니에 없는 상품이 섞여 있으므로 전체 롤백
     @Transactional
     public void deleteCartList(List<CartResponse.DeleteDTO> deleteDTO, Long userId) {
         Set<Long> ids = new HashSet<>();
         for (CartResponse.DeleteDTO dto : deleteDTO) {
-            Optional<Cart> optionalCart = cartRepository.findById(dto.getCartId());
-            if (optionalCart.isEmpty())
-                throw new Exception404("장바구니에 담겨있는 상품이 아닙니다." + dto.getCartId());
-            Cart cart = optionalCart.get();
-            if (!cart.getUser().getId().equals(userId))
-                throw new Exception403("회원님의 장바구니에 존재하는 상품이 아닙니다." + dto.getCartId());
-            ids.add(cart.getId());
+            ids.add(dto.getCartId());
         }
+        if (ids.isEmpty())
+            return;
 
-        for (Long id : ids) {
-            cartRepository.deleteById(id);
-        }
+        cartCache.evict(userId);
+        int deleted = cartRepository.deleteAllByIdInAndUserId(ids, userId);
+        if (deleted != ids.size())
+            throw new Exception404("회원님의 장바구니에 담겨있는 상품이 아닙니다." + ids);
     }
 
+    // ** 내 장바구니. 캐시에 없으면 장바구니 + 옵션 + 상품을 쿼리 1회로 조회
     public CartResponse.FindAllDto findAllByUserId(Long id) {
-        List<Cart> cartList = cartRepository.findAllByUserId(id);
-        return new CartResponse.FindAllDto(cartList);
+        return cartCache.get(id, () ->
+                new CartResponse.FindAllDto(cartRepository.findAllWithOptionAndProductByUserId(id)));
     }
 }
\ No newline at end of file
@@ -9,15 +9,15 @@ import java.util.stream.Collectors;
 
 public class CategoryResponse {
 
-    @Setter
+    // 카테고리 트리 캐시(CategoryTree)가 모든 요청에 같은 객체를 돌려주므로 불변으로 유지
     @Getter
     public static class FindAllDto{
         // 카테고리 id
-        private Long id;
+        private final Long id;
         // 카테고리 명
-        private String categoryName;
+        private final String categoryName;
         // 상위 카테고리 id
-        private Long superCategory_id;
+        private final Long superCategory_id;
 
         public FindAllDto(Category category) {
             this.id = category.getId();
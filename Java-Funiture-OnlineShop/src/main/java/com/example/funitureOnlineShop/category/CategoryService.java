@@ -2,13 +2,19 @@ package com.example.funitureOnlineShop.category;
 
 import com.example.funitureOnlineShop.core.error.exception.Exception404;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.order.item.ItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -16,10 +22,17 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ItemRepository itemRepository;
+
+    // 카테고리 트리 캐시 (변경이 커밋되면 세대 번호를 올려 무효화)
+    private final AtomicReference<CategoryTree> categoryTree = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
 
     // 카테고리 저장
     @Transactional
     public void save(CategoryRequest.SaveDto saveDto) {
+        invalidateCategoryTree();
+
         // 최상위 카테고리 추가 시
         if (saveDto.getSuperCategory_id() == 0L){
             try {
@@ -43,20 +56,43 @@ public class CategoryService {
         }
     }
 
-    // 등록된 모든 최상위 카테고리 탐색
+    // 등록된 모든 최상위 카테고리 탐색 (캐시된 트리 사용)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryResponse.FindAllDto> findAllSuper() {
-        List<Category> categories = categoryRepository.findBySuperCategoryIsNull();
-
-        return categories.stream()
-                .map(CategoryResponse.FindAllDto::new).collect(Collectors.toList());
+        return getCategoryTree().getRoots();
     }
 
-    // 하위 카테고리 탐색
+    // 하위 카테고리 탐색 (캐시된 트리 사용)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryResponse.FindAllDto> findAllSon(Long id) {
-        List<Category> categories = categoryRepository.findBySuperCategoryId(id);
+        return getCategoryTree().getChildren(id);
+    }
+
+    // 캐시된 트리가 최신이면 그대로, 아니면 전체 카테고리를 한 번에 조회하여 새로 구성
+    private CategoryTree getCategoryTree() {
+        CategoryTree tree = categoryTree.get();
+        long current = generation.get();
+        if (tree != null && tree.getGeneration() == current)
+            return tree;
+
+        // 조회 전에 읽은 세대 번호로 스냅샷을 만들어야, 조회 도중 변경이 생겨도 다음 요청에서 다시 구성됨
+        tree = CategoryTree.of(categoryRepository.findAll(), current);
+        categoryTree.set(tree);
+        return tree;
+    }
 
-        return categories.stream()
-                .map(CategoryResponse.FindAllDto::new).collect(Collectors.toList());
+    // 카테고리 변경 트랜잭션이 끝난 뒤 캐시 무효화
+    private void invalidateCategoryTree() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        } else {
+            generation.incrementAndGet();
+        }
     }
 
     // 요청 받은 카테고리와 그 상하위 카테고리 탐색
@@ -79,6 +115,7 @@ public class CategoryService {
             throw new Exception404("해당 카테고리를 찾을 수 없습니다. : " + updateDto.getId());
         // 카테고리 수정
         Category category = optionalCategory.get();
+        invalidateCategoryTree();
         try {
             category.updateFromDto(updateDto);
         } catch (Exception e) {
@@ -89,12 +126,22 @@ public class CategoryService {
     // 카테고리 삭제
     @Transactional
     public void delete(Long id) {
+        // 주문 항목은 옵션에서 cascade 되지 않으므로 하위 카테고리까지 포함해 먼저 삭제
+        List<Long> categoryIds = new ArrayList<>();
+        collectSubtree(getCategoryTree(), id, categoryIds);
+
+        invalidateCategoryTree();
         try {
+            itemRepository.deleteAllInBulkByCategoryIds(categoryIds);
             categoryRepository.deleteById(id);
         } catch (Exception e) {
             throw new Exception500("카테고리 삭제 도중 이상이 생겼습니다.");
         }
     }
 
-
+    private static void collectSubtree(CategoryTree tree, Long id, List<Long> categoryIds) {
+        categoryIds.add(id);
+        for (CategoryResponse.FindAllDto child : tree.getChildren(id))
+            collectSubtree(tree, child.getId(), categoryIds);
+    }
 }
@@ -0,0 +1,60 @@
+package com.example.funitureOnlineShop.category;
+
+import java.util.*;
+
+// 카테고리 전체 트리의 불변 스냅샷 (메뉴 렌더링 시 DB 조회 없이 사용)
+class CategoryTree {
+
+    // 스냅샷을 만들 당시의 세대 번호 (카테고리 변경 시 증가)
+    private final long generation;
+
+    // 최상위 카테고리 목록
+    private final List<CategoryResponse.FindAllDto> roots;
+
+    // 상위 카테고리 id -> 하위 카테고리 목록
+    private final Map<Long, List<CategoryResponse.FindAllDto>> children;
+
+    private CategoryTree(long generation,
+                         List<CategoryResponse.FindAllDto> roots,
+                         Map<Long, List<CategoryResponse.FindAllDto>> children) {
+        this.generation = generation;
+        this.roots = roots;
+        this.children = children;
+    }
+
+    // 한 번의 조회로 가져온 전체 카테고리로 트리를 구성
+    static CategoryTree of(List<Category> categories, long generation) {
+        List<Category> sorted = new ArrayList<>(categories);
+        sorted.sort(Comparator.comparing(Category::getId));
+
+        List<CategoryResponse.FindAllDto> roots = new ArrayList<>();
+        Map<Long, List<CategoryResponse.FindAllDto>> children = new HashMap<>();
+
+        for (Category category : sorted) {
+            CategoryResponse.FindAllDto dto = new CategoryResponse.FindAllDto(category);
+            if (dto.getSuperCategory_id() == null)
+                roots.add(dto);
+            else
+                children.computeIfAbsent(dto.getSuperCategory_id(), id -> new ArrayList<>()).add(dto);
+        }
+
+        Map<Long, List<CategoryResponse.FindAllDto>> frozen = new HashMap<>();
+        children.forEach((id, list) -> frozen.put(id, Collections.unmodifiableList(list)));
+
+        return new CategoryTree(generation,
+                Collections.unmodifiableList(roots),
+                Collections.unmodifiableMap(frozen));
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    List<CategoryResponse.FindAllDto> getRoots() {
+        return roots;
+    }
+
+    List<CategoryResponse.FindAllDto> getChildren(Long superCategoryId) {
+        return children.getOrDefault(superCategoryId, Collections.emptyList());
+    }
+}
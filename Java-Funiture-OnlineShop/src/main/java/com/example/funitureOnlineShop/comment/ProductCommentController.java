@@ -1,33 +1,36 @@
 package com.example.funitureOnlineShop.comment;
 
 import com.example.funitureOnlineShop.commentFile.CommentFileDto;
+import com.example.funitureOnlineShop.core.file.BlobStore;
 import com.example.funitureOnlineShop.core.security.CustomUserDetails;
 import com.example.funitureOnlineShop.core.utils.ApiUtils;
+import com.example.funitureOnlineShop.core.utils.FileResponseUtils;
 import com.example.funitureOnlineShop.orderCheck.OrderCheckDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/product_comment")
 public class ProductCommentController {
 
     private final ProductCommentService productCommentService;
+    private final BlobStore blobStore;
+
+    // 한 번에 조회 가능한 최대 후기 수
+    private static final int MAX_PAGE_SIZE = 50;
 
     // 상품 후기 저장
     @PostMapping("/save")
     public ResponseEntity<?> save(@ModelAttribute ProductCommentRequest.SaveDto saveDto,
                                   @RequestParam MultipartFile[] files,
-                                  @AuthenticationPrincipal CustomUserDetails customUserDetails) throws IOException {
+                                  @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         ProductComment comment = productCommentService.save(saveDto, files, customUserDetails.getUser().getId());
 
         if (comment != null) {
@@ -37,10 +40,13 @@ public class ProductCommentController {
         }
     }
 
-    // 상품 후기 탐색
+    // 상품 후기 탐색 (최신순, ?page=0&size=10)
     @GetMapping("/comments/{id}")
-    public ResponseEntity<?> commentList(@PathVariable Long id){
-        List<ProductCommentResponse.CommentDto> commentDtos = productCommentService.commentList(id);
+    public ResponseEntity<?> commentList(@PathVariable Long id,
+                                         @RequestParam(required = false, defaultValue = "0") int page,
+                                         @RequestParam(required = false, defaultValue = "10") int size){
+        Page<ProductCommentResponse.CommentDto> commentDtos = productCommentService.commentPage(
+                id, PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
 
         return ResponseEntity.ok(ApiUtils.success(commentDtos));
     }
@@ -59,7 +65,7 @@ public class ProductCommentController {
     @PostMapping("/update")
     public ResponseEntity<?> update(@ModelAttribute ProductCommentRequest.UpdateDto updateDto,
                                     @RequestParam MultipartFile[] files,
-                                    @AuthenticationPrincipal CustomUserDetails customUserDetails) throws IOException {
+                                    @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         ProductComment comment = productCommentService.update(updateDto, files, customUserDetails.getUser().getId());
 
         if (comment != null) {
@@ -69,23 +75,32 @@ public class ProductCommentController {
         }
     }
 
+    // 주문 내역 탐색 (최신순, ?page=0&size=20)
     @GetMapping("/orderCheck")
-    public ResponseEntity<?> orderCheck(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
-         List<OrderCheckDto> orderCheckDtos = productCommentService.findOrderChecks(customUserDetails.getUser().getId());
+    public ResponseEntity<?> orderCheck(@RequestParam(required = false, defaultValue = "0") int page,
+                                        @RequestParam(required = false, defaultValue = "20") int size,
+                                        @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+         Page<OrderCheckDto> orderCheckDtos = productCommentService.findOrderChecks(
+                 customUserDetails.getUser().getId(),
+                 PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
 
          ApiUtils.ApiResult apiResult = ApiUtils.success(orderCheckDtos);
          return ResponseEntity.ok(apiResult);
     }
 
-    // 이미지들 찾기
+    // 이미지들 찾기 (?variant=thumbnail|listing|detail)
     @GetMapping("/image/{id}")
-    public ResponseEntity<?> getImage(@PathVariable Long id) throws IOException {
+    public ResponseEntity<Resource> getImage(@PathVariable Long id,
+                                             @RequestParam(required = false) String variant) {
         CommentFileDto fileDto = productCommentService.findByIdFile(id);
 
-        File file = new File(fileDto.getFilePath() + fileDto.getUuid() + fileDto.getFileName());
-
-        return ResponseEntity.ok()
-                .header("Content-type", Files.probeContentType(file.toPath()))
-                .body(FileCopyUtils.copyToByteArray(file));
+        return FileResponseUtils.image(
+                blobStore,
+                fileDto.getUuid(),
+                fileDto.getFilePath(),
+                fileDto.getFileName(),
+                fileDto.getFileType(),
+                fileDto.getVariants(),
+                variant);
     }
 }
@@ -1,10 +1,28 @@
 package com.example.funitureOnlineShop.comment;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductCommentRepository extends JpaRepository<ProductComment, Long> {
 
-    Optional<ProductComment> findByOrderCheckId(Long id);
+    // 해당 상품의 후기만 작성일 최신순으로 조회 (작성자, 옵션은 함께 로딩)
+    @Query(value = "SELECT c FROM ProductComment c " +
+            "JOIN FETCH c.orderCheck oc " +
+            "JOIN FETCH oc.user " +
+            "JOIN FETCH oc.option o " +
+            "WHERE o.product.id = :productId " +
+            "ORDER BY c.createTime DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM ProductComment c " +
+                    "WHERE c.orderCheck.option.product.id = :productId")
+    Page<ProductComment> findAllByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    // 결제 취소된 주문 내역에 달린 후기 삭제 (파일을 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM ProductComment c WHERE c.orderCheck.id IN " +
+            "(SELECT oc.id FROM OrderCheck oc WHERE oc.tid = :tid)")
+    int deleteAllByOrderCheckTid(@Param("tid") String tid);
 }
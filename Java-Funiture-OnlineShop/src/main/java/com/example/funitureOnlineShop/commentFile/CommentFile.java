@@ -13,35 +13,42 @@ import javax.persistence.*;
 public class CommentFile {
     // PK
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 여러 파일을 한 번에 insert 할 수 있도록 id를 미리 50개씩 할당 (IDENTITY는 배치 insert 불가)
+    // 초기 데이터(data.sql)의 id와 겹치지 않도록 1000부터 시작
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_file_seq")
+    @TableGenerator(name = "comment_file_seq", table = "id_generator",
+            pkColumnValue = "comment_file", initialValue = 1000, allocationSize = 50)
     private Long id;
-    // 파일 경로
-    @Column(nullable = false)
+    // 파일 경로 (예전 데이터용, 새 파일은 BlobStore 에 uuid 키로 저장되어 비어 있음)
     private String filePath;
     // 파일 명
     @Column(nullable = false)
     private String fileName;
-    // uuid
+    // 저장소 키 (내용 해시)
     @Column(nullable = false)
     private String uuid;
-    // 파일 형식
+    // 파일 형식 (MIME 타입, 예: image/png)
     @Column(nullable = false)
     private String fileType;
     // 파일 크기
     @Column
     private Long fileSize;
+    // 업로드 시 만들어진 변환 이미지 목록 (예: thumbnail,listing,detail)
+    @Column
+    private String variants;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private ProductComment productComment;
 
     @Builder
-    public CommentFile(Long id, String filePath, String fileName, String uuid, String fileType, Long fileSize, ProductComment productComment) {
+    public CommentFile(Long id, String filePath, String fileName, String uuid, String fileType, Long fileSize, String variants, ProductComment productComment) {
         this.id = id;
         this.filePath = filePath;
         this.fileName = fileName;
         this.uuid = uuid;
         this.fileType = fileType;
         this.fileSize = fileSize;
+        this.variants = variants;
         this.productComment = productComment;
     }
 
@@ -1,5 +1,6 @@
 package com.example.funitureOnlineShop.commentFile;
 
+import com.example.funitureOnlineShop.core.file.ImageVariant;
 import lombok.*;
 
 @Setter
@@ -19,6 +20,8 @@ public class CommentFileDto {
     private String uuid;
     // 파일 크기
     private Long fileSize;
+    // 변환 이미지 목록
+    private String variants;
 
     public CommentFile toEntity(){
         return CommentFile.builder()
@@ -28,6 +31,7 @@ public class CommentFileDto {
                 .uuid(uuid)
                 .fileType(fileType)
                 .fileSize(fileSize)
+                .variants(variants)
                 .build();
     }
 
@@ -38,6 +42,15 @@ public class CommentFileDto {
                 commentFile.getFileName(),
                 commentFile.getFileType(),
                 commentFile.getUuid(),
-                commentFile.getFileSize());
+                commentFile.getFileSize(),
+                commentFile.getVariants());
+    }
+
+    // 화면에서 사용할 이미지 주소. 요청한 크기가 만들어져 있으면 그 이미지, 아니면 원본
+    public String imageUrl(String variant) {
+        ImageVariant imageVariant = ImageVariant.from(variant);
+        if (imageVariant != null && imageVariant.isIn(variants))
+            return "/product_comment/image/" + id + "?variant=" + imageVariant.getKey();
+        return "/product_comment/image/" + id;
     }
 }
@@ -1,11 +1,34 @@
 package com.example.funitureOnlineShop.commentFile;
 
+import com.example.funitureOnlineShop.core.file.BlobReferences;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentFileRepository extends JpaRepository<CommentFile, Long> {
-    void deleteByProductComment_id(Long id);
+public interface CommentFileRepository extends JpaRepository<CommentFile, Long>, BlobReferences {
+    // 상품 후기의 파일 정보 전체 삭제 (엔티티를 읽지 않고 한 문장으로)
+    @Modifying
+    @Query("DELETE FROM CommentFile f WHERE f.productComment.id = :id")
+    int deleteByProductComment_id(@Param("id") Long id);
+
+    // 결제 취소된 주문 내역에 달린 후기들의 파일 삭제
+    @Modifying
+    @Query("DELETE FROM CommentFile f WHERE f.productComment.id IN " +
+            "(SELECT c.id FROM ProductComment c WHERE c.orderCheck.tid = :tid)")
+    int deleteAllByOrderCheckTid(@Param("tid") String tid);
 
     List<CommentFile> findAllByProductCommentId(Long id);
+
+    // 여러 상품 후기의 파일을 IN 쿼리 한 번으로 조회
+    @Query("SELECT f FROM CommentFile f WHERE f.productComment.id IN :commentIds ORDER BY f.id")
+    List<CommentFile> findAllByProductCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // 파일 정리 시 참조 중인 저장소 키 확인
+    @Override
+    @Query("SELECT DISTINCT f.uuid FROM CommentFile f WHERE f.uuid IN :keys")
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
 }
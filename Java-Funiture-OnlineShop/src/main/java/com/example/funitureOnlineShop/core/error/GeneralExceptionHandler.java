@@ -4,6 +4,7 @@ import com.example.funitureOnlineShop.core.error.exception.*;
 import com.example.funitureOnlineShop.core.utils.ApiUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -29,6 +30,13 @@ public class GeneralExceptionHandler {
         return new ResponseEntity<>(e.body(), e.status());
     }
 
+    // ** @PreAuthorize 검사 실패 (관리자 전용 기능)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<?> accessDenied(AccessDeniedException e) {
+        Exception403 exception403 = new Exception403("권한이 없습니다");
+        return new ResponseEntity<>(exception403.body(), exception403.status());
+    }
+
     // ** 권한 없음. (삭제된 게시물에 대한 접근, 로그인되지 읺은 상태에서의 접근 등등...)
     @ExceptionHandler(Exception404.class)
     public ResponseEntity<?> notFound(Exception404 e) {
@@ -47,6 +55,12 @@ public class GeneralExceptionHandler {
         return new ResponseEntity<>(e.body(), e.status());
     }
 
+    // ** 일시적으로 처리할 수 없는 상태 (로그인 요청 폭주로 비밀번호 해시 대기열이 가득 참)
+    @ExceptionHandler(Exception503.class)
+    public ResponseEntity<?> serviceUnavailable(Exception503 e) {
+        return new ResponseEntity<>(e.body(), e.status());
+    }
+
     // ** 위 예외를 제외한 모든 예외처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> unknownServerError(Exception e) {
@@ -0,0 +1,19 @@
+package com.example.funitureOnlineShop.core.error.exception;
+
+import com.example.funitureOnlineShop.core.utils.ApiUtils;
+import org.springframework.http.HttpStatus;
+
+public class Exception503 extends RuntimeException {
+    public Exception503(String message) {
+        super(message);
+    }
+
+    public ApiUtils.ApiResult<?> body(){
+        return ApiUtils.error(getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public HttpStatus status(){
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
+
@@ -0,0 +1,21 @@
+package com.example.funitureOnlineShop.core.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// ** BlobStore 에 저장한 결과
+@Getter
+@ToString
+@AllArgsConstructor
+public class Blob {
+
+    // ** 내용의 SHA-256 해시 (16진수)
+    private final String key;
+
+    // ** 내용 크기
+    private final long size;
+
+    // ** 이번에 새로 저장되었는지 (false 면 같은 내용이 이미 있었음)
+    private final boolean created;
+}
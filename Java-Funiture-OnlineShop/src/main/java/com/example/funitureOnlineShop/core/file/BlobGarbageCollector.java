@@ -0,0 +1,85 @@
+package com.example.funitureOnlineShop.core.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+// ** 어떤 파일 정보(상품 / 후기 / 게시글)도 참조하지 않는 파일 정리.
+// ** 같은 내용의 업로드는 한 파일을 같이 쓰므로 업로드한 요청이 롤백되어도 바로 지우지 않고,
+// ** 마지막 저장 후 grace 가 지나도록 아무도 참조하지 않는 파일만 삭제
+// ** (그 사이 같은 내용이 다시 업로드되면 저장 시각이 갱신되어 삭제되지 않음)
+@Slf4j
+@Component
+public class BlobGarbageCollector {
+
+    // ** 참조 여부를 한 번에 확인할 키 수 (IN 절 크기)
+    private static final int BATCH_SIZE = 500;
+
+    // ** 파일 키 길이 (SHA-256 16진수). 변환 이미지 키는 원본 키로 시작
+    private static final int KEY_LENGTH = 64;
+
+    private final BlobStore blobStore;
+    private final List<BlobReferences> blobReferences;
+    private final Duration grace;
+
+    public BlobGarbageCollector(BlobStore blobStore,
+                                List<BlobReferences> blobReferences,
+                                @Value("${file.storage.gc-grace-hours:24}") long graceHours) {
+        this.blobStore = blobStore;
+        this.blobReferences = blobReferences;
+        this.grace = Duration.ofHours(graceHours);
+    }
+
+    @Scheduled(cron = "${file.storage.gc-cron:0 0 5 * * *}")
+    public void collect() {
+        try {
+            int deleted = collect(Instant.now().minus(grace));
+            if (deleted > 0)
+                log.info("참조되지 않는 파일 {}개 삭제", deleted);
+        } catch (IOException e) {
+            log.warn("파일 정리 실패", e);
+        }
+    }
+
+    // ** before 이후로 저장되지 않았고 참조도 없는 파일 삭제. 삭제한 원본 파일 수 반환
+    public int collect(Instant before) throws IOException {
+        // ** 원본 키 -> 정리 대상인 키들 (원본 + 변환 이미지)
+        Map<String, List<String>> keysByOriginal = new HashMap<>();
+        for (String key : blobStore.keysNotTouchedSince(before))
+            keysByOriginal.computeIfAbsent(key.substring(0, KEY_LENGTH), original -> new ArrayList<>()).add(key);
+
+        List<String> originals = new ArrayList<>(keysByOriginal.keySet());
+        int deleted = 0;
+        for (int from = 0; from < originals.size(); from += BATCH_SIZE) {
+            List<String> batch = originals.subList(from, Math.min(from + BATCH_SIZE, originals.size()));
+
+            Set<String> referenced = new HashSet<>();
+            for (BlobReferences references : blobReferences)
+                referenced.addAll(references.findReferencedKeys(batch));
+
+            for (String original : batch) {
+                if (referenced.contains(original))
+                    continue;
+
+                // ** 원본이 그 사이 다시 저장되었으면 변환 이미지도 남겨 둠
+                boolean removed = blobStore.deleteIfNotTouchedSince(original, before);
+                if (!removed && blobStore.exists(original))
+                    continue;
+
+                for (String key : keysByOriginal.get(original)) {
+                    if (!key.equals(original))
+                        blobStore.delete(key);
+                }
+                if (removed)
+                    deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.funitureOnlineShop.core.file;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+// ** BlobStore 키 생성 / 검증
+final class BlobKeys {
+
+    // ** SHA-256 16진수 64자. 파생 키는 뒤에 "_종류.확장자" 가 붙음 (경로 문자는 허용하지 않음)
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}(_[a-z]+\\.[a-z]+)?");
+
+    private BlobKeys() {
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String hex(byte[] hash) {
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    static boolean isValid(String key) {
+        return key != null && KEY.matcher(key).matches();
+    }
+
+    static String requireValid(String key) {
+        if (!isValid(key))
+            throw new IllegalArgumentException("잘못된 저장소 키 : " + key);
+        return key;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.funitureOnlineShop.core.file;
+
+import java.util.Collection;
+import java.util.List;
+
+// ** 저장소 키를 참조하는 테이블 (파일 정보 저장소가 구현). BlobGarbageCollector 가 지워도 되는지 확인할 때 사용
+public interface BlobReferences {
+
+    // ** keys 중 참조 중인 키
+    List<String> findReferencedKeys(Collection<String> keys);
+}
@@ -0,0 +1,33 @@
+package com.example.funitureOnlineShop.core.file;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+// ** 업로드 파일 저장소. 파일은 내용의 SHA-256 해시를 키로 저장되므로
+// ** 같은 내용은 한 번만 저장되고, 한 번 저장된 키의 내용은 바뀌지 않음.
+// ** 여러 행이 같은 파일을 가리킬 수 있으므로 업로드 쪽에서는 지우지 않고 BlobGarbageCollector 가 정리
+public interface BlobStore {
+
+    // ** 내용을 해시 키로 저장. 같은 내용이 이미 있으면 다시 쓰지 않음
+    Blob put(InputStream content) throws IOException;
+
+    // ** 원본 키에서 파생된 키(변환 이미지 등)로 저장. 이미 있으면 쓰지 않고 false
+    boolean put(String key, InputStream content) throws IOException;
+
+    // ** 저장된 내용. 없으면 null
+    Resource get(String key);
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    // ** 마지막으로 저장된(같은 내용을 다시 저장하려 한 때 포함) 시각이 before 보다 이전인 키들
+    List<String> keysNotTouchedSince(Instant before) throws IOException;
+
+    // ** 그 사이 다시 저장되지 않았을 때만 삭제 (삭제했으면 true)
+    boolean deleteIfNotTouchedSince(String key, Instant before);
+}
@@ -0,0 +1,21 @@
+package com.example.funitureOnlineShop.core.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class BlobStoreConfig {
+
+    // ** file.storage.type : local(기본, file.storage.root 아래 저장) / memory(테스트용)
+    @Bean
+    public BlobStore blobStore(@Value("${file.storage.type:local}") String type,
+                               @Value("${file.storage.root:${user.home}/shoppingFiles}") String root) {
+        if ("memory".equalsIgnoreCase(type))
+            return new InMemoryBlobStore();
+
+        return new LocalFileSystemBlobStore(Paths.get(root));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.funitureOnlineShop.core.file;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.core.utils.FileResponseUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+// ** 상품, 상품 후기, 게시판이 함께 사용하는 업로드 파일 저장 서비스
+// ** 파일 쓰기는 DB 트랜잭션 밖에서, 제한된 크기의 스레드 풀로 병렬 처리.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FileUploadService {
+
+    // ** 동시에 파일을 쓰는 스레드 수
+    private static final int WRITER_THREADS = 4;
+
+    // ** 대기 가능한 작업 수 (넘치면 요청 스레드가 직접 처리)
+    private static final int QUEUE_CAPACITY = 64;
+
+    private static final List<String> IMAGE_EXTENSIONS = Arrays.asList(
+            ".tiff", ".jfif", ".bmp", ".gif", ".svg", ".png", ".jpeg",
+            ".svgz", ".webp", ".jpg", ".ico", ".xbm", ".dib", ".pjp",
+            ".apng", ".tif", ".pjpeg", ".avif");
+
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            WRITER_THREADS, WRITER_THREADS,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new CustomizableThreadFactory("file-upload-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private final BlobStore blobStore;
+
+    // ** 업로드 파일들을 검증 후 병렬로 저장. 하나라도 실패하면 예외.
+    // ** 저장한 파일은 다른 업로드와 같이 쓸 수 있으므로 실패 / 롤백되어도 지우지 않음 (BlobGarbageCollector 가 정리)
+    // ** image = true 이면 이미지 파일만 허용하고 변환 이미지(ImageVariant)도 생성.
+    public List<StoredFile> store(MultipartFile[] files, boolean image) {
+        List<MultipartFile> uploads = new ArrayList<>();
+        if (files != null) {
+            for (MultipartFile file : files) {
+                if (file != null && !file.isEmpty())
+                    uploads.add(file);
+            }
+        }
+        if (uploads.isEmpty())
+            return Collections.emptyList();
+
+        // ** 쓰기 전에 모두 검증 (잘못된 요청이면 아무 파일도 남기지 않음)
+        for (MultipartFile file : uploads) {
+            if (image && !IMAGE_EXTENSIONS.contains(extensionOf(file.getOriginalFilename())))
+                throw new Exception400("이미지 파일만 가능합니다.");
+        }
+
+        List<CompletableFuture<StoredFile>> futures = new ArrayList<>();
+        for (MultipartFile file : uploads) {
+            futures.add(CompletableFuture.supplyAsync(() -> write(file, image), executor));
+        }
+
+        // ** 모든 작업이 끝날 때까지 기다린 뒤 실패가 있으면 정리
+        List<StoredFile> storedFiles = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<StoredFile> future : futures) {
+            try {
+                storedFiles.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                failure = e.getCause() != null ? e.getCause() : e;
+            }
+        }
+
+        if (failure != null) {
+            log.warn("파일 저장 실패 : " + failure.getMessage());
+            throw new Exception500("파일 저장 도중 오류가 발생했습니다.");
+        }
+        return storedFiles;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private StoredFile write(MultipartFile file, boolean image) {
+        String originalFilename = file.getOriginalFilename();
+
+        // ** 내용 해시를 키로 저장 (같은 내용은 한 번만 저장)
+        Blob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = blobStore.put(in);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+
+        // ** 목록/상세용 작은 이미지 생성
+        String variants = image ? ImageVariantGenerator.generate(blobStore, blob) : null;
+
+        return new StoredFile(
+                originalFilename,
+                blob.getKey(),
+                FileResponseUtils.contentTypeOf(originalFilename, file.getContentType()),
+                blob.getSize(),
+                variants);
+    }
+
+    private static String extensionOf(String fileName) {
+        if (fileName == null || fileName.lastIndexOf(".") < 0)
+            return "";
+        return fileName.substring(fileName.lastIndexOf(".")).toLowerCase();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.funitureOnlineShop.core.file;
+
+import java.util.Arrays;
+
+// ** 업로드된 이미지로부터 미리 만들어 두는 고정 너비 이미지들
+public enum ImageVariant {
+
+    // ** 목록 / 후기의 작은 이미지
+    THUMBNAIL("thumbnail", 200),
+
+    // ** 카드형 목록 이미지
+    LISTING("listing", 480),
+
+    // ** 상품 상세 이미지
+    DETAIL("detail", 1080);
+
+    // ** 변환된 이미지는 모두 jpg 로 저장
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final String EXTENSION = ".jpg";
+
+    private final String key;
+    private final int width;
+
+    ImageVariant(String key, int width) {
+        this.key = key;
+        this.width = width;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    // ** 변환된 이미지의 저장소 키 (원본 키에서 파생)
+    public String fileNameOf(String blobKey) {
+        return blobKey + "_" + key + EXTENSION;
+    }
+
+    // ** 엔티티에 저장된 변환 목록("thumbnail,listing")에 포함되어 있는지 확인
+    public boolean isIn(String variants) {
+        if (variants == null || variants.isEmpty())
+            return false;
+        return Arrays.asList(variants.split(",")).contains(key);
+    }
+
+    // ** 요청 파라미터 값으로 변환 종류를 찾음. 없거나 모르는 값이면 null (원본 사용)
+    public static ImageVariant from(String key) {
+        if (key == null)
+            return null;
+        for (ImageVariant variant : values()) {
+            if (variant.key.equalsIgnoreCase(key))
+                return variant;
+        }
+        return null;
+    }
+}
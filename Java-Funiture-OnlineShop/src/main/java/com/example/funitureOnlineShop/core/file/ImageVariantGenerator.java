@@ -0,0 +1,90 @@
+package com.example.funitureOnlineShop.core.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// ** 원본 이미지로부터 ImageVariant 크기의 jpg 이미지들을 생성 (JDK ImageIO 만 사용)
+@Slf4j
+public class ImageVariantGenerator {
+
+    // ** 원본을 읽어 원본보다 작은 너비의 변환 이미지들을 만들고,
+    // ** 만들어진 변환 목록을 "thumbnail,listing" 형태로 반환. 만들 수 없으면 null.
+    public static String generate(BlobStore blobStore, Blob original) {
+        String key = original.getKey();
+
+        // ** 같은 내용이 이미 저장되어 있었다면 변환 이미지도 그때 만들어져 있음
+        if (!original.isCreated())
+            return existing(blobStore, key);
+
+        BufferedImage source;
+        Resource resource = blobStore.get(key);
+        try (InputStream in = resource.getInputStream()) {
+            source = ImageIO.read(in);
+        } catch (IOException e) {
+            log.warn("이미지를 읽을 수 없어 변환하지 않습니다 : " + key);
+            return null;
+        }
+
+        // ** ImageIO 가 지원하지 않는 형식 (svg, webp 등) 은 원본만 사용
+        if (source == null)
+            return null;
+
+        List<String> generated = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            // ** 원본보다 큰 변환은 만들지 않음 (원본을 그대로 사용)
+            if (source.getWidth() <= variant.getWidth())
+                continue;
+
+            try {
+                BufferedImage resized = resize(source, variant.getWidth());
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(resized, "jpg", out);
+                blobStore.put(variant.fileNameOf(key), new ByteArrayInputStream(out.toByteArray()));
+                generated.add(variant.getKey());
+            } catch (IOException e) {
+                log.warn("이미지 변환 실패 : " + key + " (" + variant.getKey() + ")");
+            }
+        }
+
+        return generated.isEmpty() ? null : String.join(",", generated);
+    }
+
+    // ** 저장소에 이미 있는 변환 이미지 목록
+    private static String existing(BlobStore blobStore, String key) {
+        List<String> variants = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (blobStore.exists(variant.fileNameOf(key)))
+                variants.add(variant.getKey());
+        }
+        return variants.isEmpty() ? null : String.join(",", variants);
+    }
+
+    // ** 비율을 유지하며 너비를 맞춤. 투명 영역은 흰색으로 채움 (jpg 저장용)
+    private static BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
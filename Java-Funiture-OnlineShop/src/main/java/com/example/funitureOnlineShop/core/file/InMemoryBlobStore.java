@@ -0,0 +1,83 @@
+package com.example.funitureOnlineShop.core.file;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// ** 메모리 저장소 (테스트용, file.storage.type=memory). 재시작하면 사라짐
+public class InMemoryBlobStore implements BlobStore {
+
+    private final Map<String, byte[]> blobs = new ConcurrentHashMap<>();
+    private final Map<String, Instant> touchedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public Blob put(InputStream content) throws IOException {
+        byte[] bytes = StreamUtils.copyToByteArray(content);
+        String key = BlobKeys.hex(BlobKeys.newDigest().digest(bytes));
+
+        boolean created = blobs.putIfAbsent(key, bytes) == null;
+        touchedAt.put(key, Instant.now());
+        return new Blob(key, bytes.length, created);
+    }
+
+    @Override
+    public boolean put(String key, InputStream content) throws IOException {
+        BlobKeys.requireValid(key);
+        if (blobs.containsKey(key))
+            return false;
+
+        boolean created = blobs.putIfAbsent(key, StreamUtils.copyToByteArray(content)) == null;
+        if (created)
+            touchedAt.put(key, Instant.now());
+        return created;
+    }
+
+    @Override
+    public Resource get(String key) {
+        byte[] bytes = key != null ? blobs.get(key) : null;
+        return bytes != null ? new ByteArrayResource(bytes) : null;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return key != null && blobs.containsKey(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (key != null) {
+            blobs.remove(key);
+            touchedAt.remove(key);
+        }
+    }
+
+    @Override
+    public List<String> keysNotTouchedSince(Instant before) {
+        return touchedAt.entrySet().stream()
+                .filter(entry -> entry.getValue().isBefore(before))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized boolean deleteIfNotTouchedSince(String key, Instant before) {
+        Instant touched = key != null ? touchedAt.get(key) : null;
+        if (touched == null || !touched.isBefore(before))
+            return false;
+
+        touchedAt.remove(key);
+        return blobs.remove(key) != null;
+    }
+
+    public int size() {
+        return blobs.size();
+    }
+}
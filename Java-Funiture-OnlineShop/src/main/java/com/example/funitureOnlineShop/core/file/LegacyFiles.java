@@ -0,0 +1,38 @@
+package com.example.funitureOnlineShop.core.file;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// ** 저장된 파일 찾기.
+// ** 새 파일은 BlobStore 에 내용 해시 키로 저장되어 있고,
+// ** BlobStore 이전에 올린 파일(키가 해시가 아닌 uuid)은 filePath + uuid + 원본 파일명 경로에 그대로 있음
+public final class LegacyFiles {
+
+    private LegacyFiles() {
+    }
+
+    public static boolean isBlobKey(String key) {
+        return BlobKeys.isValid(key);
+    }
+
+    // ** 파일 내용. 없으면 null. filePath / uuid / fileName 은 DB 에 저장된 값만 넘겨야 함
+    public static Resource open(BlobStore blobStore, String key, String filePath, String fileName) {
+        if (BlobKeys.isValid(key))
+            return blobStore.get(key);
+
+        if (key == null || filePath == null || fileName == null)
+            return null;
+
+        try {
+            Path path = Paths.get(filePath + key + fileName);
+            Resource resource = new FileSystemResource(path);
+            return resource.isReadable() ? resource : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+}
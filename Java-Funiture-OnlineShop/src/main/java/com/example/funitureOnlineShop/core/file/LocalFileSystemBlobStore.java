@@ -0,0 +1,166 @@
+package com.example.funitureOnlineShop.core.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// ** 로컬 디스크 저장소.
+// ** root/ab/cd/abcd...(키) 처럼 키 앞 4자리로 디렉토리를 나눠 한 디렉토리에 파일이 몰리지 않게 함.
+@Slf4j
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private final Path root;
+
+    // ** 해시를 계산하며 쓰는 동안 사용하는 임시 디렉토리 (같은 디스크여야 이동이 rename 으로 끝남)
+    private final Path tempDirectory;
+
+    public LocalFileSystemBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve("tmp");
+        try {
+            Files.createDirectories(tempDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장 경로를 만들 수 없습니다 : " + this.root, e);
+        }
+    }
+
+    @Override
+    public Blob put(InputStream content) throws IOException {
+        MessageDigest digest = BlobKeys.newDigest();
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+        try {
+            // ** 한 번 읽으면서 임시 파일 쓰기와 해시 계산을 같이 함
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String key = BlobKeys.hex(digest.digest());
+            return new Blob(key, size, moveIfAbsent(temp, pathOf(key)));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean put(String key, InputStream content) throws IOException {
+        Path target = pathOf(BlobKeys.requireValid(key));
+        if (Files.exists(target))
+            return false;
+
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            return moveIfAbsent(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource get(String key) {
+        if (!BlobKeys.isValid(key))
+            return null;
+
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return BlobKeys.isValid(key) && Files.isRegularFile(pathOf(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        if (!BlobKeys.isValid(key))
+            return;
+
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패 : " + key);
+        }
+    }
+
+    @Override
+    public List<String> keysNotTouchedSince(Instant before) throws IOException {
+        FileTime threshold = FileTime.from(before);
+        try (Stream<Path> paths = Files.walk(root, 3)) {
+            return paths
+                    .filter(path -> !path.startsWith(tempDirectory))
+                    .filter(path -> BlobKeys.isValid(path.getFileName().toString()))
+                    .filter(path -> isNotTouchedSince(path, threshold))
+                    .map(path -> path.getFileName().toString())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public boolean deleteIfNotTouchedSince(String key, Instant before) {
+        if (!BlobKeys.isValid(key))
+            return false;
+
+        Path path = pathOf(key);
+        if (!isNotTouchedSince(path, FileTime.from(before)))
+            return false;
+
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패 : " + key);
+            return false;
+        }
+    }
+
+    // ** 같은 키가 이미 있으면 내용도 같으므로 옮기지 않고 수정 시각만 갱신 (정리 대상에서 빠지도록)
+    private boolean moveIfAbsent(Path temp, Path target) throws IOException {
+        if (Files.exists(target))
+            return touch(target);
+
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return touch(target);
+        }
+    }
+
+    private boolean touch(Path target) {
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.warn("파일 수정 시각 갱신 실패 : " + target.getFileName());
+        }
+        return false;
+    }
+
+    private static boolean isNotTouchedSince(Path path, FileTime threshold) {
+        try {
+            return Files.isRegularFile(path) && Files.getLastModifiedTime(path).compareTo(threshold) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2))
+                .resolve(key.substring(2, 4))
+                .resolve(key);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.funitureOnlineShop.core.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// ** 저장소에 저장을 마친 업로드 파일 정보 (엔티티로 옮기기 전 단계)
+@Getter
+@ToString
+@AllArgsConstructor
+public class StoredFile {
+
+    // ** 원본 파일명
+    private final String fileName;
+
+    // ** 저장소 키 (내용 해시)
+    private final String key;
+
+    // ** MIME 타입
+    private final String fileType;
+
+    // ** 파일 크기
+    private final Long fileSize;
+
+    // ** 만들어진 변환 이미지 목록 (없으면 null)
+    private final String variants;
+}
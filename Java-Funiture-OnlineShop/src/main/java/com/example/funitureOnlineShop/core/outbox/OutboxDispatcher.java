@@ -0,0 +1,211 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 아웃박스 이벤트를 리스너에 전달 (요청 스레드 밖, 전용 스레드 풀).
+// - 최소 한 번 전달 : 리스너가 모두 성공해야 발행 완료로 표시, 실패하면 다시 전달
+// - 배압 : 처리 대기열에 남은 자리만큼만 DB 에서 가져오고 나머지는 아웃박스에 남겨 둠
+// - 같은 대상(주문)의 이벤트라도 순서는 보장하지 않음
+// - MAX_ATTEMPTS 번 실패한 이벤트는 더 이상 전달하지 않음 (FAILED 로 남으며 stats 의 dead 로 집계)
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    static final int MAX_ATTEMPTS = 10;
+    private static final int QUEUE_CAPACITY = 256;
+
+    // 발행 중 서버가 내려가 PROCESSING 으로 남은 이벤트를 다시 발행하기까지의 시간
+    private static final long STALE_MINUTES = 5;
+
+    private static final List<OutboxEvent.State> CLAIMABLE =
+            List.of(OutboxEvent.State.PENDING, OutboxEvent.State.FAILED);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // 리스너가 주문 서비스 등을 주입받아도 순환 참조가 생기지 않도록 처음 전달할 때 조회
+    private final ObjectProvider<OutboxListener<?>> listenerProvider;
+
+    private final ThreadPoolExecutor executor;
+    // 커밋 직후 깨우기 요청을 한 번으로 합쳐서 처리하는 조회 전용 스레드
+    private final ThreadPoolExecutor poller = new ThreadPoolExecutor(
+            1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new CustomizableThreadFactory("outbox-poller-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile Map<String, List<OutboxListener<?>>> listenersByType;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder givenUp = new LongAdder();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            ObjectProvider<OutboxListener<?>> listenerProvider,
+                            @Value("${outbox.dispatcher-threads:2}") int threads) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.listenerProvider = listenerProvider;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new CustomizableThreadFactory("outbox-dispatcher-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 이벤트가 커밋되면 주기를 기다리지 않고 바로 조회
+    public void wakeUp() {
+        poller.execute(this::poll);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!polling.compareAndSet(false, true))
+            return;
+        try {
+            int capacity = executor.getQueue().remainingCapacity();
+            if (capacity == 0)
+                return;
+
+            List<Long> ids = outboxEventRepository.findIdsToPublish(
+                    OutboxEvent.State.PENDING, OutboxEvent.State.FAILED, MAX_ATTEMPTS, PageRequest.of(0, capacity));
+            for (Long id : ids) {
+                if (!inFlight.add(id))
+                    continue;
+                try {
+                    executor.execute(() -> deliver(id));
+                } catch (RejectedExecutionException e) {
+                    inFlight.remove(id);
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 조회 실패", e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void releaseStale() {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.releaseStale(
+                OutboxEvent.State.PENDING, OutboxEvent.State.PROCESSING,
+                LocalDateTime.now().minusMinutes(STALE_MINUTES)));
+    }
+
+    // 발행이 끝난 이벤트는 7일 보관
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgePublished() {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deletePublishedBefore(
+                OutboxEvent.State.PUBLISHED, LocalDateTime.now().minusDays(7)));
+    }
+
+    private void deliver(Long id) {
+        OutboxEvent event = null;
+        try {
+            event = transactionTemplate.execute(status ->
+                    outboxEventRepository.claim(id, OutboxEvent.State.PROCESSING, CLAIMABLE, LocalDateTime.now()) == 0
+                            ? null
+                            : outboxEventRepository.findById(id).orElse(null));
+            if (event == null)
+                return;
+
+            for (OutboxListener<?> listener : listeners().getOrDefault(event.getType(), Collections.emptyList()))
+                invoke(listener, event.getPayload());
+
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(
+                    id, OutboxEvent.State.PUBLISHED, LocalDateTime.now()));
+            published.increment();
+        } catch (Exception e) {
+            failed.increment();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markFailed(id, OutboxEvent.State.FAILED));
+
+            // 선점할 때 읽은 시도 횟수 + 이번 실패
+            if (event != null && event.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                givenUp.increment();
+                log.error("아웃박스 이벤트 전달 포기 ({}회 실패). id : {}, type : {}, aggregateId : {}",
+                        MAX_ATTEMPTS, id, event.getType(), event.getAggregateId(), e);
+            } else {
+                log.warn("아웃박스 이벤트 전달 실패. id : {}", id, e);
+            }
+        } finally {
+            inFlight.remove(id);
+        }
+    }
+
+    private <T> void invoke(OutboxListener<T> listener, String payload) throws JsonProcessingException {
+        listener.on(objectMapper.readValue(payload, listener.eventType()));
+    }
+
+    private Map<String, List<OutboxListener<?>>> listeners() {
+        Map<String, List<OutboxListener<?>>> listeners = listenersByType;
+        if (listeners == null) {
+            Map<String, List<OutboxListener<?>>> byType = new HashMap<>();
+            listenerProvider.orderedStream().forEach(listener ->
+                    byType.computeIfAbsent(listener.eventType().getSimpleName(), type -> new ArrayList<>()).add(listener));
+            listenersByType = listeners = byType;
+        }
+        return listeners;
+    }
+
+    // 관리자용: 전달 현황. dead 는 재시도를 포기해 손으로 처리해야 하는 이벤트 수 (DB 기준)
+    public Stats stats() {
+        return new Stats(published.sum(), failed.sum(), givenUp.sum(),
+                outboxEventRepository.countByState(OutboxEvent.State.PENDING),
+                outboxEventRepository.countByStateAndAttemptsGreaterThanEqual(OutboxEvent.State.FAILED, MAX_ATTEMPTS),
+                executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+        executor.shutdown();
+    }
+
+    @Getter
+    public static class Stats {
+        // 이 노드가 시작된 뒤 전달 성공 / 실패 / 포기한 수
+        private final long published;
+        private final long failed;
+        private final long givenUp;
+        // 발행 대기 중인 이벤트
+        private final long pending;
+        // 최대 시도 횟수를 넘겨 더 이상 전달하지 않는 이벤트
+        private final long dead;
+        private final int queued;
+
+        private Stats(long published, long failed, long givenUp, long pending, long dead, int queued) {
+            this.published = published;
+            this.failed = failed;
+            this.givenUp = givenUp;
+            this.pending = pending;
+            this.dead = dead;
+            this.queued = queued;
+        }
+    }
+}
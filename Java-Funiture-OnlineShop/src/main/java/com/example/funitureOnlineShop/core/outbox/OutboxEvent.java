@@ -0,0 +1,69 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 트랜잭션 아웃박스. 업무 데이터와 같은 트랜잭션에 저장되므로 커밋된 변경에 대해서만 이벤트가 남음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_state", columnList = "state, id"))
+public class OutboxEvent {
+
+    public enum State {
+        // 발행 대기
+        PENDING,
+        // 리스너에 전달 중
+        PROCESSING,
+        // 모든 리스너가 처리함
+        PUBLISHED,
+        // 리스너 오류 (재시도 대상)
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 클래스 이름 (OrderPlaced, ...)
+    @Column(length = 50, nullable = false)
+    private String type;
+
+    // 이벤트 대상 (주문 id, tid 등)
+    @Column(length = 100)
+    private String aggregateId;
+
+    // 이벤트 내용 (JSON)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private State state;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public OutboxEvent(String type, String aggregateId, String payload, LocalDateTime createdAt) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.state = State.PENDING;
+        this.createdAt = createdAt;
+    }
+}
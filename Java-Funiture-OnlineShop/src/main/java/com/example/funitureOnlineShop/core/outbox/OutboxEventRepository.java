@@ -0,0 +1,58 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // ** 발행할 이벤트 id (생성 순서)
+    @Query("SELECT e.id FROM OutboxEvent e " +
+            "WHERE e.state = :pending OR (e.state = :failed AND e.attempts < :maxAttempts) ORDER BY e.id")
+    List<Long> findIdsToPublish(@Param("pending") OutboxEvent.State pending,
+                                @Param("failed") OutboxEvent.State failed,
+                                @Param("maxAttempts") int maxAttempts,
+                                Pageable pageable);
+
+    // ** 발행 중으로 선점. 이미 다른 곳에서 가져갔으면 0
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.state = :processing, e.claimedAt = :now " +
+            "WHERE e.id = :id AND e.state IN :claimable")
+    int claim(@Param("id") Long id,
+              @Param("processing") OutboxEvent.State processing,
+              @Param("claimable") List<OutboxEvent.State> claimable,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.state = :published, e.publishedAt = :now WHERE e.id = :id")
+    int markPublished(@Param("id") Long id,
+                      @Param("published") OutboxEvent.State published,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.state = :failed, e.attempts = e.attempts + 1 WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("failed") OutboxEvent.State failed);
+
+    // ** 발행 도중 서버가 내려가 PROCESSING 으로 남은 이벤트를 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.state = :pending WHERE e.state = :processing AND e.claimedAt < :before")
+    int releaseStale(@Param("pending") OutboxEvent.State pending,
+                     @Param("processing") OutboxEvent.State processing,
+                     @Param("before") LocalDateTime before);
+
+    long countByState(OutboxEvent.State state);
+
+    // ** 최대 시도 횟수를 넘겨 더 이상 발행하지 않는 이벤트 수
+    long countByStateAndAttemptsGreaterThanEqual(OutboxEvent.State state, int attempts);
+
+    // ** 발행이 끝난 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.state = :published AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("published") OutboxEvent.State published,
+                              @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,10 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+// 아웃박스 이벤트 리스너. 빈으로 등록하면 OutboxDispatcher 가 요청 흐름 밖에서 호출함
+// 최소 한 번 전달(at-least-once)이므로 같은 이벤트가 다시 와도 문제없게 구현해야 함
+public interface OutboxListener<T> {
+
+    Class<T> eventType();
+
+    void on(T event);
+}
@@ -0,0 +1,46 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+// 업무 트랜잭션 안에서 이벤트를 아웃박스에 저장 (INSERT 1회). 커밋되면 바로 발행을 요청
+@RequiredArgsConstructor
+@Component
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new Exception500("이벤트 저장 중 오류가 발생했습니다.");
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .type(event.getClass().getSimpleName())
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+}
@@ -5,15 +5,18 @@ import com.example.funitureOnlineShop.user.User;
 import com.example.funitureOnlineShop.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     // ** CustomUserDetailsService 의 loadUserByUsername 메서드는 사용자가 로그인을 시도할 때 Spring Security에 의해 자동으로 실행.
@@ -21,9 +24,24 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         // ** CustomUserDetailsService 클래스는 Spring Security의 UserDetailsService 인터페이스를 구현하여, 사용자 이름으로 사용자 정보를 로드하는 로직을 제공합니다.
         // ** 인증 과정에서 사용자 이름을 통해 사용자 정보를 찾을 때 실행.
-        User user = userRepository.findByEmail(username).orElseThrow(
+        // ** 최근에 인증한 회원이면 캐시에서 바로 반환
+        return userDetailsCache.get(username, () -> {
+            User user = userRepository.findByEmail(username).orElseThrow(
+                    () -> new Exception401("인증되지 않았습니다.")
+            );
+            return new CustomUserDetails(user);
+        });
+    }
+
+    @Override
+    @Transactional
+    // ** 로그인 성공 후 저장된 해시의 cost 가 현재 설정과 다르면 Spring Security 가 새 해시로 호출 (rehash-on-login)
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow(
                 () -> new Exception401("인증되지 않았습니다.")
         );
+        user.changePassword(newPassword);
+        userDetailsCache.evict(user.getEmail());
 
         return new CustomUserDetails(user);
     }
@@ -0,0 +1,53 @@
+package com.example.funitureOnlineShop.core.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ** 노드 한 대용 폐기 토큰 저장소.
+// ** "폐기되지 않음" 확인은 블룸 필터만 보고 끝나므로 락이 없음. 블룸 필터는 지울 수 없으므로
+// ** 만료 항목을 정리할 때 남은 항목으로 다시 만들어 메모리와 오탐률이 로그아웃 누적량에 비례해 늘지 않게 함
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    // ** tokenId -> 토큰 exp (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile RevokedTokenBloomFilter bloomFilter = newBloomFilter();
+
+    // ** 블룸 필터 재생성과 겹치면 새 필터에 빠질 수 있으므로 쓰기만 직렬화 (로그아웃은 드묾)
+    @Override
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis())
+            return;
+        revoked.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId))
+            return false;
+
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.purge-interval-ms:60000}")
+    @Override
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        RevokedTokenBloomFilter rebuilt = newBloomFilter();
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private static RevokedTokenBloomFilter newBloomFilter() {
+        return new RevokedTokenBloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.funitureOnlineShop.core.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+// ** DB 공유 폐기 토큰 저장소. 어느 노드에서 로그아웃해도 모든 노드에서 거부됨
+// ** 다른 노드의 폐기를 알 수 없으므로 로컬 블룸 필터 없이 매 요청 기본키로 조회
+@RequiredArgsConstructor
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Transactional
+    @Override
+    public void revoke(String tokenId, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis())
+            return;
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revokedTokenRepository.existsByTokenIdAndExpiresAtGreaterThan(tokenId, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.purge-interval-ms:60000}")
+    @Transactional
+    @Override
+    public void purgeExpired() {
+        revokedTokenRepository.deleteAllExpired(System.currentTimeMillis());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.funitureOnlineShop.core.security;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -22,8 +23,15 @@ import java.util.List;
 
 @Slf4j
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+
+    // ** 상태가 없으므로 요청마다 만들지 않고 재사용
+    private static final StringArrayConverter STRING_ARRAY_CONVERTER = new StringArrayConverter();
+
+    private final TokenRevocationStore tokenRevocationStore;
+
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, TokenRevocationStore tokenRevocationStore) {
         super(authenticationManager);
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     // ** Http 요청이 발생할 때마다 호출되는 메서드.
@@ -45,26 +53,23 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         try {
             log.debug("토근 있음.");
 
-            // ** 토큰 검증
-            DecodedJWT decodedJWT = JwtTokenProvider.verify(jwt);
+            // ** 이미 검증한 토큰이면 캐시된 인증 정보 사용
+            VerifiedTokenCache.Entry entry = VerifiedTokenCache.get(jwt);
+            if (entry == null)
+                entry = verifyAndCache(jwt);
 
-            // ** 사용자 정보 추출.
-            Long id = decodedJWT.getClaim("id").asLong();
-            String roles = decodedJWT.getClaim("roles").asString();
-
-            // ** 권한 정보를 문자열 리스트로 변환.
-            StringArrayConverter stringArrayConverter = new StringArrayConverter();
-            List<String> rolesList = stringArrayConverter.convertToEntityAttribute(roles);
-
-            // ** 추출한 정보로 유저를 생성.
-            User user = User.builder().id(id).roles(rolesList).build();
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
+            // ** 로그아웃으로 폐기된 토큰이면 인증하지 않음
+            if (tokenRevocationStore.isRevoked(entry.getTokenId())) {
+                log.debug("폐기된 토큰");
+                return;
+            }
 
             // ** Spring Security 가 인증 정보를 관리하는데 사용.
+            // ** credentials 에는 토큰을 넣어 로그아웃 시 폐기할 수 있게 함
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    customUserDetails,
-                    customUserDetails.getPassword(),
-                    customUserDetails.getAuthorities()
+                    entry.getUserDetails(),
+                    jwt,
+                    entry.getAuthorities()
             );
 
             // ** SecurityContext에 저장.
@@ -76,11 +81,34 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         }
         catch (TokenExpiredException tee) {
             log.debug("토큰 사용 만료");
+        }
+        catch (JWTVerificationException jve) {
+            log.debug("유효하지 않은 토큰");
         } finally {
             // ** 필터로 응답을 넘긴다.
             chain.doFilter(request, response);
         }
     }
+
+    // ** 캐시 미스 경로 : 서명 검증 + 권한 파싱 후 토큰의 만료 시각까지 캐시
+    static VerifiedTokenCache.Entry verifyAndCache(String jwt) {
+        // ** 토큰 검증
+        DecodedJWT decodedJWT = JwtTokenProvider.verify(jwt);
+
+        // ** 사용자 정보 추출.
+        Long id = decodedJWT.getClaim("id").asLong();
+        String roles = decodedJWT.getClaim("roles").asString();
+
+        // ** 권한 정보를 문자열 리스트로 변환.
+        List<String> rolesList = STRING_ARRAY_CONVERTER.convertToEntityAttribute(roles);
+
+        // ** 추출한 정보로 유저를 생성.
+        User user = User.builder().id(id).roles(rolesList).build();
+        CustomUserDetails customUserDetails = new CustomUserDetails(user);
+
+        return VerifiedTokenCache.put(jwt, JwtTokenProvider.tokenId(decodedJWT), customUserDetails,
+                List.copyOf(customUserDetails.getAuthorities()), decodedJWT.getExpiresAt());
+    }
 }
 
 
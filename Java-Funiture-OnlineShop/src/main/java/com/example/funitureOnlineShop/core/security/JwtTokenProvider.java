@@ -2,14 +2,20 @@ package com.example.funitureOnlineShop.core.security;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.example.funitureOnlineShop.user.StringArrayConverter;
 import com.example.funitureOnlineShop.user.User;
 import org.springframework.security.core.Authentication;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.UUID;
 
 public class JwtTokenProvider {
 
@@ -28,6 +34,14 @@ public class JwtTokenProvider {
     // ** 토큰의 서명을 생성하고 검증할 때 사용하는 비밀 키
     private static final String SECRET = "SECRET_KEY";
 
+    private static final String REFRESH_TYPE = "refresh";
+
+    // ** 서명 알고리즘과 검증기는 상태가 없고 스레드 안전하므로 한 번만 생성해서 재사용
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(SECRET);
+    // ** 접근 토큰에는 id 가 있어야 하고, 갱신 토큰은 type=refresh 여야 함 (서로 바꿔 쓸 수 없게)
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).withClaimPresence("id").build();
+    private static final JWTVerifier REFRESH_VERIFIER = JWT.require(ALGORITHM).withClaim("type", REFRESH_TYPE).build();
+
     // ** User 객체의 정보를 사용해 JWT 토큰을 생성하고 반환.
     public static String create(User user) {
 
@@ -41,10 +55,11 @@ public class JwtTokenProvider {
 
         String jwt = JWT.create()
                 .withSubject(user.getEmail()) // ** 토큰의 대상정보 셋팅 
+                .withJWTId(UUID.randomUUID().toString()) // ** 폐기(로그아웃) 시 사용할 토큰 id
                 .withExpiresAt(new Date(System.currentTimeMillis() + EXP)) // ** 시간 설정
                 .withClaim("id", user.getId()) // ** id설정
                 .withClaim("roles", roles) // ** 권한정보 설정
-                .sign(Algorithm.HMAC512(SECRET)); // ** jwt 생성 알고리즘 설정
+                .sign(ALGORITHM); // ** jwt 생성 알고리즘 설정
 
         return TOKEN_PREFIX + jwt;
     }
@@ -52,8 +67,10 @@ public class JwtTokenProvider {
     public static String createRefresh(User user){
         String jwt = JWT.create()
                 .withSubject(user.getEmail())// ** 토큰의 대상정보 셋팅
+                .withJWTId(UUID.randomUUID().toString()) // ** 같은 시각에 발급해도 토큰(해시)이 겹치지 않게
+                .withClaim("type", REFRESH_TYPE)
                 .withExpiresAt(new Date(System.currentTimeMillis() + REFRESH_EXP))
-                .sign(Algorithm.HMAC512(SECRET));// ** JWT 생성 알고리즘 설정
+                .sign(ALGORITHM);// ** JWT 생성 알고리즘 설정
         return jwt;
     }
 
@@ -61,42 +78,46 @@ public class JwtTokenProvider {
     public static DecodedJWT verify(String jwt) throws SignatureVerificationException, TokenExpiredException {
 
         // ** 토큰 검증을 시작.
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(jwt);
-
-        return decodedJWT;
+        return VERIFIER.verify(jwt);
     }
 
-    public static void invalidateToken(Authentication authentication) {
-        if (authentication != null && authentication.isAuthenticated()) {
-            // 현재 인증된 사용자의 토큰을 무효화하는 로직을 구현합니다.
-            // 예를 들어, 토큰을 블랙리스트에 추가하거나, 토큰의 만료일을 조정하여 무효화할 수 있습니다.
-            // 구체적인 구현 방법은 프로젝트의 요구사항과 토큰 관리 방식에 따라 다를 수 있습니다.
-            // 예시로는 블랙리스트에 추가하는 방법을 보여드리겠습니다.
-
-            String token = (String) authentication.getCredentials();
-            Blacklist.addToken(token);
-        }
+    // ** 갱신 토큰 서명 / 만료 / 종류 검증 (BCrypt 없이 HMAC 만)
+    public static DecodedJWT verifyRefresh(String jwt) throws JWTVerificationException {
+        return REFRESH_VERIFIER.verify(jwt);
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    // ** 폐기 목록에 쓸 토큰 id. jti 가 없는 토큰은 토큰 전체의 SHA-256
+    public static String tokenId(DecodedJWT decodedJWT) {
+        if (decodedJWT.getId() != null)
+            return decodedJWT.getId();
 
+        return sha256Hex(decodedJWT.getToken());
+    }
 
+    // ** 토큰 원문 대신 저장할 SHA-256 (hex)
+    public static String sha256Hex(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
+                hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
+    // ** 현재 인증에 사용된 토큰을 exp 까지 폐기 목록에 등록
+    public static void invalidateToken(Authentication authentication, TokenRevocationStore tokenRevocationStore) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getCredentials() instanceof String))
+            return;
+
+        // ** 필터에서 이미 검증한 토큰이므로 디코딩만 함
+        String token = (String) authentication.getCredentials();
+        DecodedJWT decodedJWT = JWT.decode(token);
+        tokenRevocationStore.revoke(tokenId(decodedJWT), decodedJWT.getExpiresAt().getTime());
+        VerifiedTokenCache.remove(token);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.funitureOnlineShop.core.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// ** 저장된 해시의 cost 가 설정한 cost 와 다르면 (낮아도, 높아도) 다시 해시하도록 알림.
+// ** BCryptPasswordEncoder 는 저장된 cost 가 더 낮을 때만 다시 해시하므로 cost 를 낮춘 경우가 반영되지 않음
+public class RehashingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT = Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public RehashingBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Matcher matcher = encodedPassword == null ? null : BCRYPT.matcher(encodedPassword);
+        if (matcher == null || !matcher.matches())
+            return super.upgradeEncoding(encodedPassword);
+
+        return Integer.parseInt(matcher.group(2)) != strength;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.funitureOnlineShop.core.security;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+// ** 여러 노드가 공유하는 폐기 토큰 (token.revocation.store: jdbc 일 때 사용)
+@NoArgsConstructor
+@Getter
+@Entity
+@Table(name = "revoked_token",
+        indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    // ** 토큰의 exp (epoch ms)
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+    @Builder
+    public RevokedToken(String tokenId, Long expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.funitureOnlineShop.core.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // ** 기본키 조회 1회
+    boolean existsByTokenIdAndExpiresAtGreaterThan(String tokenId, Long now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") Long now);
+}
@@ -6,17 +6,19 @@ import com.example.funitureOnlineShop.core.error.exception.Exception403;
 import com.example.funitureOnlineShop.core.utils.FilterResponseUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,17 +26,34 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Configuration // ** 현재 클래스를 (설정 클래스)로 설정
+@EnableGlobalMethodSecurity(prePostEnabled = true) // ** 컨트롤러의 @PreAuthorize 검사 (URL 규칙과 함께 적용)
 public class SecurityConfig {
 
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // ** 비밀번호 해시 정책 (security.password.*)
+    // ** bcrypt-strength 를 바꾸면 (올리든 내리든) 다른 cost 로 저장된 비밀번호는 다음 로그인 때 새 cost 로 다시 저장됨
+    // ** (RehashingBCryptPasswordEncoder, CustomUserDetailsService.updatePassword)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:0}") int threads,
+                                           @Value("${security.password.hash-queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password.hash-timeout-ms:5000}") long timeoutMillis){
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new RehashingBCryptPasswordEncoder(strength));
+
+        // ** 스레드 수 기본값 : CPU 코어 수
+        int hashThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new DelegatingPasswordEncoder("bcrypt", encoders), hashThreads, queueCapacity, timeoutMillis);
     }
 
     @Bean
@@ -59,7 +78,7 @@ public class SecurityConfig {
                     AuthenticationManager.class
             );
 
-            httpSecurity.addFilter(new JwtAuthenticationFilter(authenticationManager));
+            httpSecurity.addFilter(new JwtAuthenticationFilter(authenticationManager, tokenRevocationStore));
 
             super.configure(httpSecurity);
         }
@@ -103,10 +122,12 @@ public class SecurityConfig {
         // 10. 인증, 권한 필터 설정
         http.authorizeRequests(
                 authorize -> authorize.antMatchers(
-                        "/carts/**", "/options/**", "/orders/**")
-                        .authenticated()
-                        .antMatchers("/product/save", "/product/update", "/admin/**", "/category/update", "/category/delete/")
+                        "/product/save", "/product/update", "/admin/**", "/category/update", "/category/delete/",
+                        "/cart/summary", "/user/cache-stats", "/v1/hook/stats", "/options/*/stripes", "/options/*/stripes/**",
+                        "/orders/outbox-stats")
                         .access("hasRole('ROLE_ADMIN')")
+                        .antMatchers("/carts/**", "/cart/**", "/options/**", "/orders/**")
+                        .authenticated()
                         .anyRequest().permitAll()
         );
 
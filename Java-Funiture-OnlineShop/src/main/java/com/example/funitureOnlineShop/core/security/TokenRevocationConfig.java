@@ -0,0 +1,19 @@
+package com.example.funitureOnlineShop.core.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TokenRevocationConfig {
+
+    // ** token.revocation.store : memory(기본, 노드별) / jdbc(DB 공유, 여러 노드 운영 시)
+    @Bean
+    public TokenRevocationStore tokenRevocationStore(@Value("${token.revocation.store:memory}") String type,
+                                                     RevokedTokenRepository revokedTokenRepository) {
+        if ("jdbc".equalsIgnoreCase(type))
+            return new JdbcTokenRevocationStore(revokedTokenRepository);
+
+        return new InMemoryTokenRevocationStore();
+    }
+}
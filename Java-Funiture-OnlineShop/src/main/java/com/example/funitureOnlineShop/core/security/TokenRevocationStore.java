@@ -0,0 +1,14 @@
+package com.example.funitureOnlineShop.core.security;
+
+// ** 로그아웃 등으로 폐기된 토큰 저장소.
+// ** 토큰 id(jti)로 저장하고 토큰의 exp 가 지나면 자동으로 사라짐 (만료된 토큰은 어차피 검증에서 거부됨)
+public interface TokenRevocationStore {
+
+    // ** expiresAt : 토큰의 exp (epoch ms)
+    void revoke(String tokenId, long expiresAt);
+
+    boolean isRevoked(String tokenId);
+
+    // ** exp 가 지난 항목 정리
+    void purgeExpired();
+}
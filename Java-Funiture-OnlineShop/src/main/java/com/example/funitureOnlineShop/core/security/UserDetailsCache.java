@@ -0,0 +1,121 @@
+package com.example.funitureOnlineShop.core.security;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// ** 이메일 -> 로그인 사용자 정보 캐시. 같은 회원의 반복 인증에서 회원 조회를 생략
+// ** 비밀번호 변경 / 권한 변경 / 탈퇴 트랜잭션이 끝나면 비움
+@Component
+public class UserDetailsCache {
+
+    // ** 캐시할 최대 회원 수 (넘으면 가장 오래 안 쓴 회원부터 제거)
+    private static final int MAX_ENTRIES = 1_000;
+
+    // ** DB 를 직접 고친 경우에도 오래 남지 않도록 10분 뒤 다시 조회
+    private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, Entry> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // ** 비울 때마다 증가. 조회 도중 비워졌다면 조회 결과를 캐시하지 않음
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CustomUserDetails get(String email, Supplier<CustomUserDetails> loader) {
+        long loadedGeneration;
+        synchronized (this) {
+            Entry entry = users.get(email);
+            if (entry != null && System.nanoTime() - entry.loadedAt < TTL_NANOS) {
+                hits.increment();
+                return entry.userDetails;
+            }
+            loadedGeneration = generation;
+        }
+        misses.increment();
+
+        CustomUserDetails loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == loadedGeneration)
+                users.put(email, new Entry(loaded, System.nanoTime()));
+        }
+        return loaded;
+    }
+
+    public boolean contains(String email) {
+        synchronized (this) {
+            return users.containsKey(email);
+        }
+    }
+
+    public void evict(String email) {
+        afterCompletion(() -> {
+            synchronized (this) {
+                generation++;
+                users.remove(email);
+            }
+        });
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (this) {
+            size = users.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), size);
+    }
+
+    // ** 커밋 전에 비우면 다른 요청이 이전 데이터를 다시 캐시할 수 있으므로 트랜잭션이 끝난 뒤 비움
+    private static void afterCompletion(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    private static class Entry {
+        private final CustomUserDetails userDetails;
+        private final long loadedAt;
+
+        private Entry(CustomUserDetails userDetails, long loadedAt) {
+            this.userDetails = userDetails;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    @Getter
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+        // ** 적중률 (0 ~ 1)
+        private final double hitRate;
+
+        private Stats(long hits, long misses, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+            this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+    }
+}
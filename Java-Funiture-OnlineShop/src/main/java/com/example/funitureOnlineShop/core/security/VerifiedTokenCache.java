@@ -0,0 +1,84 @@
+package com.example.funitureOnlineShop.core.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ** 검증이 끝난 토큰 -> 인증 정보 캐시.
+// ** 같은 토큰으로 다시 요청하면 서명 검증과 권한 문자열 파싱 없이 조회 한 번으로 인증
+public class VerifiedTokenCache {
+
+    // ** 캐시할 최대 토큰 수 (넘으면 가장 먼저 넣은 토큰부터 제거)
+    // ** 토큰 유효 기간이 모두 같으므로 가장 먼저 넣은 토큰이 가장 먼저 만료됨
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // ** 만료되지 않은 캐시 항목. 없거나 토큰의 exp 가 지났으면 null
+    public static Entry get(String token) {
+        synchronized (cache) {
+            Entry entry = cache.get(token);
+            if (entry == null)
+                return null;
+
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                cache.remove(token);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    // ** 토큰의 exp 까지만 유효. 가득 차면 가장 오래된 토큰 하나를 밀어내고 캐시
+    public static Entry put(String token, String tokenId, CustomUserDetails userDetails,
+                            Collection<? extends GrantedAuthority> authorities, Date expiresAt) {
+        Entry entry = new Entry(tokenId, userDetails, authorities, expiresAt == null ? 0L : expiresAt.getTime());
+        if (expiresAt == null)
+            return entry;
+
+        synchronized (cache) {
+            cache.put(token, entry);
+        }
+        return entry;
+    }
+
+    public static void remove(String token) {
+        if (token == null)
+            return;
+        synchronized (cache) {
+            cache.remove(token);
+        }
+    }
+
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Getter
+    public static class Entry {
+        // ** 폐기 여부 확인용 토큰 id (jti)
+        private final String tokenId;
+        private final CustomUserDetails userDetails;
+        private final Collection<? extends GrantedAuthority> authorities;
+        private final long expiresAt;
+
+        private Entry(String tokenId, CustomUserDetails userDetails,
+                      Collection<? extends GrantedAuthority> authorities, long expiresAt) {
+            this.tokenId = tokenId;
+            this.userDetails = userDetails;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
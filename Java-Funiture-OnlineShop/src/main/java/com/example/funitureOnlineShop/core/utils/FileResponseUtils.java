@@ -0,0 +1,80 @@
+package com.example.funitureOnlineShop.core.utils;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception404;
+import com.example.funitureOnlineShop.core.file.BlobStore;
+import com.example.funitureOnlineShop.core.file.ImageVariant;
+import com.example.funitureOnlineShop.core.file.LegacyFiles;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// ** 업로드된 이미지 파일을 HTTP 캐시 헤더와 함께 응답으로 내보내는 유틸리티
+public class FileResponseUtils {
+
+    // ** 파일은 내용 해시를 키로 저장되어 같은 키의 내용이 바뀌지 않으므로 브라우저에 오래 캐시
+    private static final CacheControl IMAGE_CACHE = CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic();
+
+    // ** 저장소의 파일을 ResponseEntity<Resource> 로 변환.
+    // ** 본문은 고정 크기 버퍼로 스트리밍되고(파일 전체를 byte[] 로 읽지 않음),
+    // ** 키(내용 해시)를 ETag 로, 파일 수정 시각을 Last-Modified 로 사용하므로
+    // ** 조건부 요청은 304, Range 요청은 206 으로 스프링이 처리.
+    // ** 예전 데이터(키가 해시가 아님)는 filePath 의 파일을 응답
+    public static ResponseEntity<Resource> image(BlobStore blobStore, String key, String filePath,
+                                                 String fileName, String fileType) {
+        Resource resource = LegacyFiles.open(blobStore, key, filePath, fileName);
+        if (resource == null)
+            throw new Exception404("해당 파일을 찾을 수 없습니다." + fileName);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType(fileName, fileType))
+                .eTag("\"" + key + "\"")
+                .cacheControl(IMAGE_CACHE);
+
+        long lastModified = lastModifiedOf(resource);
+        if (lastModified > 0)
+            response.lastModified(lastModified);
+
+        return response.body(resource);
+    }
+
+    // ** 파일 수정 시각. 같은 내용이 다시 올라오면 저장소가 시각을 갱신하므로 ETag 와 달리 바뀔 수 있음.
+    // ** 파일이 아닌 저장소(메모리)는 시각이 없으므로 0
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    // ** 요청한 변환 이미지가 만들어져 있으면 그 파일을, 아니면 원본을 응답
+    public static ResponseEntity<Resource> image(BlobStore blobStore, String key, String filePath, String fileName,
+                                                 String fileType, String variants, String requested) {
+        ImageVariant variant = ImageVariant.from(requested);
+        if (variant != null && variant.isIn(variants))
+            return image(blobStore, variant.fileNameOf(key), null, variant.fileNameOf(key), ImageVariant.CONTENT_TYPE);
+
+        return image(blobStore, key, filePath, fileName, fileType);
+    }
+
+    // ** 업로드 시 저장한 MIME 타입을 사용. 예전 데이터(확장자만 저장됨)는 파일명으로 추론
+    public static MediaType mediaType(String fileName, String fileType) {
+        if (fileType != null && fileType.contains("/"))
+            return MediaType.parseMediaType(fileType);
+
+        return MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    // ** 업로드 시점에 한 번만 MIME 타입을 결정 (요청마다 probeContentType 을 하지 않도록)
+    public static String contentTypeOf(String fileName, String uploadedContentType) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .map(MediaType::toString)
+                .orElse(uploadedContentType != null ? uploadedContentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+}
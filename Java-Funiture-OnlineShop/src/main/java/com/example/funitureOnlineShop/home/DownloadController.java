@@ -1,38 +1,47 @@
 package com.example.funitureOnlineShop.home;
 
 
+import com.example.funitureOnlineShop.boardFile.BoardFileRepository;
+import com.example.funitureOnlineShop.core.file.BlobStore;
+import com.example.funitureOnlineShop.core.file.LegacyFiles;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 
 @RestController
+@RequiredArgsConstructor
 public class DownloadController {
 
+    private final BlobStore blobStore;
+    private final BoardFileRepository boardFileRepository;
+
+    // ** uuid 는 저장소 키 (내용 해시), fileName 은 내려받을 때 사용할 원본 파일명.
+    // ** 예전 첨부 파일(uuid 가 해시가 아님)은 요청 값이 아니라 DB 에 저장된 경로에서 읽음
     @GetMapping("/download/{uuid}/{fileName}")
 
     public ResponseEntity<Resource> downloadFile(@PathVariable String uuid,
                                                  @PathVariable String fileName){
-        Path filepath = Paths.get("C:/Users/Ahyun/OneDrive/바탕 화면/카카오 로그인/수정본"+uuid+fileName);
-        try{
-            Resource ressource = new UrlResource(filepath.toUri());
-            if(ressource.exists()|| ressource.isReadable()){
-                return ResponseEntity.ok().header(
-                                "Content-Disposition",
-                                "attachment; fileName=\""+ ressource.getFilename()+ "\"")
-                        .body(ressource);
-            }
-            else {
-                return ResponseEntity.notFound().build();
-            }
-
-        }catch (Exception e){
-            return ResponseEntity.internalServerError().build();
-        }
+        Resource ressource = LegacyFiles.isBlobKey(uuid)
+                ? blobStore.get(uuid)
+                : boardFileRepository.findFirstByUuidAndFileName(uuid, fileName)
+                        .map(file -> LegacyFiles.open(blobStore, file.getUuid(), file.getFilePath(), file.getFileName()))
+                        .orElse(null);
+        if (ressource == null)
+            return ResponseEntity.notFound().build();
+
+        return ResponseEntity.ok().header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(fileName, StandardCharsets.UTF_8)
+                                .build()
+                                .toString())
+                .body(ressource);
     }
 }
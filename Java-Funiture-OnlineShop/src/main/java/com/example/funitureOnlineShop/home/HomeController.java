@@ -143,9 +143,9 @@ public class HomeController {
         return "productDetail";
     }
 
-    // 카테고리의 상품 목록 페이지
+    // 카테고리의 상품 목록 페이지 (?page=1&size=10, size 는 서비스에서 최대값 제한)
     @GetMapping(value = {"/product/paging/{categoryId}"})
-    public String categoryPaging(@PathVariable Long categoryId, @PageableDefault(page = 1) Pageable pageable, Model model){
+    public String categoryPaging(@PathVariable Long categoryId, @PageableDefault(page = 1, size = 10) Pageable pageable, Model model){
         Page<ProductResponse.FindByCategoryDTO> products = productService.paging(categoryId, pageable);
 
         int blockLimit = 3;
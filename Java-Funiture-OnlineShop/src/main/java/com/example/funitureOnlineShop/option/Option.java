@@ -1,12 +1,12 @@
 package com.example.funitureOnlineShop.option;
 
 import com.example.funitureOnlineShop.cart.Cart;
-import com.example.funitureOnlineShop.order.item.Item;
 import com.example.funitureOnlineShop.orderCheck.OrderCheck;
 import com.example.funitureOnlineShop.product.Product;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -29,8 +29,12 @@ public class Option {
     private String optionName;
     // ** 옵션 가격
     private Long price;
-    // ** 상품의 재고 수량
+    // ** 상품의 재고 수량 (분할 재고 사용 중이면 분할 재고 합계를 주기적으로 반영한 표시용 값)
     private Long stockQuantity;
+    // ** 분할 재고 사용 여부 (핫 옵션)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private boolean striped;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
@@ -41,11 +45,11 @@ public class Option {
     @OneToMany(mappedBy = "option", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderCheck> orderChecks = new ArrayList<>();
 
-    @OneToOne(mappedBy = "option", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
-    private Item item;
+    @OneToMany(mappedBy = "option", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
+    private List<OptionStockStripe> stockStripes = new ArrayList<>();
 
     @Builder
-    public Option(Long id, String optionName, Long price, Long stockQuantity, Product product, List<Cart> cart, List<OrderCheck> orderChecks, Item item) {
+    public Option(Long id, String optionName, Long price, Long stockQuantity, Product product, List<Cart> cart, List<OrderCheck> orderChecks) {
         this.id = id;
         this.optionName = optionName;
         this.price = price;
@@ -53,7 +57,6 @@ public class Option {
         this.product = product;
         this.cart = cart;
         this.orderChecks = orderChecks;
-        this.item = item;
     }
 
     public Option toUpdate(Product product) {
@@ -68,7 +71,13 @@ public class Option {
         this.price = optionDTO.getPrice();
         this.stockQuantity = optionDTO.getStockQuantity();
     }
-    public void updateStock(Long change) {
-        this.stockQuantity += change;
+
+    public void startStriping() {
+        this.striped = true;
+    }
+
+    public void stopStriping(Long stockQuantity) {
+        this.striped = false;
+        this.stockQuantity = stockQuantity;
     }
 }
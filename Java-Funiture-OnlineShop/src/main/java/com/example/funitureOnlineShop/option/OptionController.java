@@ -4,6 +4,7 @@ import com.example.funitureOnlineShop.core.utils.ApiUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
@@ -61,4 +62,21 @@ public class OptionController {
         ApiUtils.ApiResult<?> apiResult = ApiUtils.success(id);
         return ResponseEntity.ok(apiResult);
     }
+    // ** 핫 옵션 분할 재고 사용 (관리자)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/{id}/stripes")
+    public ResponseEntity<?> enableStriping(@PathVariable Long id,
+                                            @RequestParam(defaultValue = "8") int count) {
+        optionService.enableStriping(id, count);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(id);
+        return ResponseEntity.ok(apiResult);
+    }
+    // ** 핫 옵션 분할 재고 해제 (관리자)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/{id}/stripes/disable")
+    public ResponseEntity<?> disableStriping(@PathVariable Long id) {
+        optionService.disableStriping(id);
+        ApiUtils.ApiResult<?> apiResult = ApiUtils.success(id);
+        return ResponseEntity.ok(apiResult);
+    }
 }
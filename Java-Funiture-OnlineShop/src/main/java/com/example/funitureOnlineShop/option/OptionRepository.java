@@ -1,9 +1,37 @@
 package com.example.funitureOnlineShop.option;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 public interface OptionRepository extends JpaRepository<Option, Long> {
     List<Option> findByProductId(Long id);
+
+    // ** 재고가 충분할 때만 차감 (확인과 차감을 한 문장으로 처리). 차감되면 1, 재고가 부족하면 0
+    // ** 분할 재고를 사용하는 옵션은 0 (OptionStockStripe 에서 차감)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Option o SET o.stockQuantity = o.stockQuantity - :quantity " +
+            "WHERE o.id = :id AND o.striped = false AND o.stockQuantity >= :quantity")
+    int deductStock(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    // ** 재고 복구. 분할 재고를 사용하는 옵션은 0
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Option o SET o.stockQuantity = o.stockQuantity + :quantity " +
+            "WHERE o.id = :id AND o.striped = false")
+    int restoreStock(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    // ** 분할 재고 합계를 표시용 재고 수량에 반영 (write-behind)
+    @Modifying
+    @Query("UPDATE Option o SET o.stockQuantity = :quantity WHERE o.id = :id AND o.striped = true")
+    int updateStripedStockQuantity(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Option o WHERE o.id = :id")
+    Optional<Option> findByIdForUpdate(@Param("id") Long id);
 }
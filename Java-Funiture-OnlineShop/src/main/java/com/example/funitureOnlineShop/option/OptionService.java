@@ -1,5 +1,7 @@
 package com.example.funitureOnlineShop.option;
 
+import com.example.funitureOnlineShop.cart.CartCache;
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
 import com.example.funitureOnlineShop.order.item.Item;
 import com.example.funitureOnlineShop.order.item.ItemRepository;
@@ -11,8 +13,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +28,8 @@ public class OptionService {
     private final ProductRepository productRepository;
     private final OrderCheckRepository orderCheckRepository;
     private final ItemRepository itemRepository;
+    private final StripedStockService stripedStockService;
+    private final CartCache cartCache;
 
     // ** 상품ID를 기반으로 옵션을 저장, 없을 시 예외처리
     @Transactional
@@ -67,7 +74,12 @@ public class OptionService {
 
             if (optionalOption.isPresent()) {
                 Option option = optionalOption.get();
+                // ** 분할 재고 사용 중이면 새 수량으로 다시 나눔
+                if (option.isStriped())
+                    stripedStockService.reset(option.getId(), requestDTO.getStockQuantity());
                 option.updateFromDTO(requestDTO);
+                // ** 장바구니 화면에 옵션 가격이 들어 있으므로 비움
+                cartCache.evictAll();
 
                 optionRepository.save(option);
             } else {
@@ -80,27 +92,80 @@ public class OptionService {
     // ** 옵션 삭제
     @Transactional
     public void delete(Long id){
+        cartCache.evictAll();
+        itemRepository.deleteAllInBulkByOptionId(id);
         optionRepository.deleteById(id);
     }
 
+    // ** 결제된 주문의 재고 차감. 주문의 모든 항목을 옵션별로 합쳐 한 번에 예약하고,
+    // ** 하나라도 재고가 부족하면 전체 롤백
     @Transactional
-    public void deductStock(String orderId) {
-        Long id = Long.parseLong(orderId.substring(orderId.lastIndexOf(":") + 1));
-        List<Item> itemList = itemRepository.findAllByOrderId(id);
+    public void deductStock(Long orderReference) {
+        List<Item> itemList = itemRepository.findAllByOrderReference(orderReference);
 
-        for (Item item : itemList) {
-            Option option = item.getOption();
-            option.updateStock(- item.getQuantity());
+        // ** getOption().getId() 는 프록시를 초기화하지 않으므로 옵션을 조회하지 않음
+        Map<Long, Long> quantities = new HashMap<>();
+        for (Item item : itemList)
+            quantities.merge(item.getOption().getId(), item.getQuantity(), Long::sum);
+
+        reserve(quantities);
+    }
+
+    // ** 옵션별 수량만큼 재고 예약 (차감).
+    // ** "UPDATE ... WHERE stock_quantity >= ?" 로 확인과 차감이 한 문장에서 이루어지므로
+    // ** 동시에 결제되어도 재고보다 많이 팔리지 않음.
+    // ** 옵션 id 순서로 차감해서 같은 옵션들을 담은 주문끼리 교착 상태(deadlock)가 생기지 않게 함.
+    @Transactional
+    public void reserve(Map<Long, Long> quantitiesByOptionId) {
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(quantitiesByOptionId).entrySet()) {
+            if (entry.getValue() == null || entry.getValue() <= 0)
+                continue;
+
+            if (!deduct(entry.getKey(), entry.getValue()))
+                throw new Exception400("재고가 부족합니다. 옵션 ID: " + entry.getKey());
         }
     }
 
+    private boolean deduct(Long optionId, Long quantity) {
+        // ** 분할 재고 옵션은 option_tb 행을 건드리지 않고 분할 재고에서 차감 (행 잠금 경합 회피)
+        if (stripedStockService.isStriped(optionId) && stripedStockService.deduct(optionId, quantity))
+            return true;
+
+        if (optionRepository.deductStock(optionId, quantity) == 1)
+            return true;
+
+        // ** 다른 서버에서 분할 재고로 바뀐 옵션일 수 있음
+        return stripedStockService.refresh(optionId) && stripedStockService.deduct(optionId, quantity);
+    }
+
+    // ** 결제 취소된 주문의 재고 복구
     @Transactional
     public void restoreStock(String tid) {
         List<OrderCheck> orderChecks = orderCheckRepository.findAllByTid(tid);
 
-        for (OrderCheck orderCheck : orderChecks) {
-            Option option = orderCheck.getOption();
-            option.updateStock(+ orderCheck.getQuantity());
+        Map<Long, Long> quantities = new TreeMap<>();
+        for (OrderCheck orderCheck : orderChecks)
+            quantities.merge(orderCheck.getOption().getId(), orderCheck.getQuantity(), Long::sum);
+
+        for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+            Long optionId = entry.getKey();
+            if (stripedStockService.isStriped(optionId) && stripedStockService.restore(optionId, entry.getValue()))
+                continue;
+
+            if (optionRepository.restoreStock(optionId, entry.getValue()) == 0 && stripedStockService.refresh(optionId))
+                stripedStockService.restore(optionId, entry.getValue());
         }
     }
+
+    // ** 핫 옵션 분할 재고 사용 시작
+    @Transactional
+    public void enableStriping(Long id, int stripeCount) {
+        stripedStockService.enable(id, stripeCount);
+    }
+
+    // ** 핫 옵션 분할 재고 사용 종료
+    @Transactional
+    public void disableStriping(Long id) {
+        stripedStockService.disable(id);
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.funitureOnlineShop.option;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+// ** 핫 옵션의 재고를 나눠 담는 분할 재고 (한 행에 결제가 몰려 잠금 경합이 생기지 않도록)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "option_stock_stripe",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "option_stock_stripe_uk", columnNames = {"option_id", "stripe_no"})
+        })
+public class OptionStockStripe {
+    // ** PK
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Option option;
+
+    // ** 분할 번호 (0 ~ 분할 수 - 1)
+    @Column(nullable = false)
+    private Integer stripeNo;
+
+    // ** 분할된 재고 수량
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Builder
+    public OptionStockStripe(Long id, Option option, Integer stripeNo, Long quantity) {
+        this.id = id;
+        this.option = option;
+        this.stripeNo = stripeNo;
+        this.quantity = quantity;
+    }
+
+    public void updateQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.funitureOnlineShop.option;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface OptionStockStripeRepository extends JpaRepository<OptionStockStripe, Long> {
+
+    // ** 해당 분할 재고가 충분할 때만 차감. 차감되면 1, 부족하면 0
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OptionStockStripe s SET s.quantity = s.quantity - :quantity " +
+            "WHERE s.option.id = :optionId AND s.stripeNo = :stripeNo AND s.quantity >= :quantity")
+    int deduct(@Param("optionId") Long optionId, @Param("stripeNo") Integer stripeNo, @Param("quantity") Long quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OptionStockStripe s SET s.quantity = s.quantity + :quantity " +
+            "WHERE s.option.id = :optionId AND s.stripeNo = :stripeNo")
+    int restore(@Param("optionId") Long optionId, @Param("stripeNo") Integer stripeNo, @Param("quantity") Long quantity);
+
+    // ** 잠금 없이 분할 번호 순서로 분할별 재고 확인 (분할 번호는 0 부터 연속)
+    @Query("SELECT s.quantity FROM OptionStockStripe s WHERE s.option.id = :optionId ORDER BY s.stripeNo")
+    List<Long> findQuantitiesByOptionId(@Param("optionId") Long optionId);
+
+    // ** 분할 재고 전체를 분할 번호 순서로 잠금 (재분배 / 여러 분할에서 나눠 차감할 때)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OptionStockStripe s WHERE s.option.id = :optionId ORDER BY s.stripeNo")
+    List<OptionStockStripe> findAllByOptionIdForUpdate(@Param("optionId") Long optionId);
+
+    // ** fromStripeNo 번 이후 분할만 분할 번호 순서로 잠금 (차감 중 여러 분할에서 나눠 차감할 때)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OptionStockStripe s WHERE s.option.id = :optionId AND s.stripeNo >= :fromStripeNo " +
+            "ORDER BY s.stripeNo")
+    List<OptionStockStripe> findAllByOptionIdFromStripeForUpdate(@Param("optionId") Long optionId,
+                                                                 @Param("fromStripeNo") Integer fromStripeNo);
+
+    @Query("SELECT COUNT(s) FROM OptionStockStripe s WHERE s.option.id = :optionId")
+    long countByOptionId(@Param("optionId") Long optionId);
+
+    // ** [옵션 id, 분할 수] 목록
+    @Query("SELECT s.option.id, COUNT(s) FROM OptionStockStripe s GROUP BY s.option.id")
+    List<Object[]> countGroupByOptionId();
+}
@@ -0,0 +1,259 @@
+package com.example.funitureOnlineShop.option;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+import com.example.funitureOnlineShop.core.error.exception.Exception404;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// ** 핫 옵션 분할 재고.
+// ** 분할 재고를 사용하는 옵션은 재고를 여러 행(OptionStockStripe)에 나눠 담고 결제마다 임의의 분할에서 차감해서
+// ** option_tb 한 행에 잠금이 몰리지 않게 함. 분할 사이의 치우침은 주기적으로 재분배하고,
+// ** 그때 합계를 option_tb.stock_quantity 에 반영 (화면 표시용).
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StripedStockService {
+
+    // ** 한 옵션을 나눌 수 있는 최대 분할 수
+    public static final int MAX_STRIPES = 64;
+
+    private final OptionRepository optionRepository;
+    private final OptionStockStripeRepository optionStockStripeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // ** 분할 재고를 사용 중인 옵션 id -> 분할 수 (재분배 때마다 DB 기준으로 다시 읽음)
+    private final Map<Long, Integer> stripeCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    public boolean isStriped(Long optionId) {
+        return stripeCounts.containsKey(optionId);
+    }
+
+    // ** DB 에서 분할 여부를 다시 확인 (다른 서버에서 분할을 켜거나 끈 경우)
+    public boolean refresh(Long optionId) {
+        long count = optionStockStripeRepository.countByOptionId(optionId);
+        if (count == 0) {
+            stripeCounts.remove(optionId);
+            return false;
+        }
+        stripeCounts.put(optionId, (int) count);
+        return true;
+    }
+
+    // ** 옵션의 현재 재고를 stripeCount 개로 나눠 분할 재고 사용 시작
+    @Transactional
+    public void enable(Long optionId, int stripeCount) {
+        if (stripeCount < 1 || stripeCount > MAX_STRIPES)
+            throw new Exception400("분할 수는 1 ~ " + MAX_STRIPES + " 사이여야 합니다.");
+
+        Option option = getOptionForUpdate(optionId);
+        if (option.isStriped())
+            throw new Exception400("이미 분할 재고를 사용 중인 옵션입니다. 옵션 ID: " + optionId);
+
+        long[] quantities = split(option.getStockQuantity(), stripeCount);
+        List<OptionStockStripe> stripes = new ArrayList<>();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(OptionStockStripe.builder()
+                    .option(option)
+                    .stripeNo(i)
+                    .quantity(quantities[i])
+                    .build());
+        }
+        optionStockStripeRepository.saveAll(stripes);
+        option.startStriping();
+
+        afterCommit(() -> stripeCounts.put(optionId, stripeCount));
+    }
+
+    // ** 분할 재고를 합쳐 option_tb 로 되돌림
+    @Transactional
+    public void disable(Long optionId) {
+        Option option = getOptionForUpdate(optionId);
+        if (!option.isStriped())
+            throw new Exception400("분할 재고를 사용하지 않는 옵션입니다. 옵션 ID: " + optionId);
+
+        List<OptionStockStripe> stripes = optionStockStripeRepository.findAllByOptionIdForUpdate(optionId);
+        optionStockStripeRepository.deleteAllInBatch(stripes);
+        option.stopStriping(sum(stripes));
+
+        afterCommit(() -> stripeCounts.remove(optionId));
+    }
+
+    // ** 관리자가 재고 수량을 바꾼 경우 새 수량으로 다시 나눔
+    @Transactional
+    public void reset(Long optionId, Long stockQuantity) {
+        getOptionForUpdate(optionId);
+        List<OptionStockStripe> stripes = optionStockStripeRepository.findAllByOptionIdForUpdate(optionId);
+        distribute(stripes, stockQuantity);
+    }
+
+    // ** 임의의 분할부터 분할 번호가 커지는 방향으로만 차감을 시도하고(되돌아가지 않음),
+    // ** 어느 한 분할로도 부족하면 시작 분할부터 끝까지를 번호 순서로 잠그고 나눠 차감.
+    // ** 분할을 항상 번호가 커지는 순서로만 잠그므로 같은 옵션을 결제하는 요청끼리 교착 상태가 생기지 않음
+    // ** (실패한 조건부 UPDATE 도 REPEATABLE READ 에서는 행 잠금을 유지하므로 작은 번호로 돌아가면 안 됨).
+    // ** 합계가 부족하면 Exception400, 분할 재고가 해제되었으면 false.
+    @Transactional
+    public boolean deduct(Long optionId, Long quantity) {
+        if (!stripeCounts.containsKey(optionId))
+            return false;
+
+        // ** 잠금 없이 분할별 재고를 확인 (품절 뒤 몰리는 요청이 분할을 잠그지 않도록)
+        List<Long> quantities = optionStockStripeRepository.findQuantitiesByOptionId(optionId);
+        if (quantities.isEmpty()) {
+            stripeCounts.remove(optionId);
+            return false;
+        }
+
+        // ** suffix[i] : i 번 분할부터 끝까지의 합. 시작 분할 이후만으로 충분한 위치 중에서 임의로 시작
+        long[] suffix = new long[quantities.size() + 1];
+        for (int i = quantities.size() - 1; i >= 0; i--)
+            suffix[i] = suffix[i + 1] + quantities.get(i);
+        if (suffix[0] < quantity)
+            throw new Exception400("재고가 부족합니다. 옵션 ID: " + optionId);
+
+        int last = 0;
+        while (last + 1 < quantities.size() && suffix[last + 1] >= quantity)
+            last++;
+        int start = ThreadLocalRandom.current().nextInt(last + 1);
+
+        // ** 재고가 부족해 보이는 분할은 잠그지 않고 건너뜀
+        for (int stripeNo = start; stripeNo < quantities.size(); stripeNo++) {
+            if (quantities.get(stripeNo) >= quantity
+                    && optionStockStripeRepository.deduct(optionId, stripeNo, quantity) == 1)
+                return true;
+        }
+
+        return deductAcrossStripes(optionId, start, quantity);
+    }
+
+    // ** 임의의 분할에 재고 복구. 분할 재고가 해제되었으면 false
+    @Transactional
+    public boolean restore(Long optionId, Long quantity) {
+        Integer count = stripeCounts.get(optionId);
+        if (count == null)
+            return false;
+
+        int stripeNo = ThreadLocalRandom.current().nextInt(count);
+        if (optionStockStripeRepository.restore(optionId, stripeNo, quantity) == 1)
+            return true;
+
+        stripeCounts.remove(optionId);
+        return false;
+    }
+
+    // ** 분할 사이의 재고를 고르게 다시 나누고 합계를 option_tb 에 반영
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${stock.striping.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        reload();
+
+        for (Long optionId : stripeCounts.keySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(optionId));
+            } catch (Exception e) {
+                log.warn("분할 재고 재분배 실패 : 옵션 ID " + optionId + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private void rebalance(Long optionId) {
+        // ** 분할 설정 변경과 같은 순서(옵션 -> 분할)로 잠금
+        Optional<Option> optionalOption = optionRepository.findByIdForUpdate(optionId);
+        if (optionalOption.isEmpty() || !optionalOption.get().isStriped())
+            return;
+
+        List<OptionStockStripe> stripes = optionStockStripeRepository.findAllByOptionIdForUpdate(optionId);
+        long total = sum(stripes);
+        distribute(stripes, total);
+        optionRepository.updateStripedStockQuantity(optionId, total);
+    }
+
+    // ** fromStripeNo 번 분할부터 끝까지를 번호 순서로 잠그고 나눠 차감
+    // ** (앞 번호 분할은 이미 잡은 잠금보다 작은 번호라 잠그지 않음. 그 사이 다른 결제로 부족해졌으면 Exception400)
+    private boolean deductAcrossStripes(Long optionId, int fromStripeNo, Long quantity) {
+        List<OptionStockStripe> stripes = optionStockStripeRepository.findAllByOptionIdFromStripeForUpdate(optionId, fromStripeNo);
+        if (stripes.isEmpty()) {
+            stripeCounts.remove(optionId);
+            return false;
+        }
+        if (sum(stripes) < quantity)
+            throw new Exception400("재고가 부족합니다. 옵션 ID: " + optionId);
+
+        long remaining = quantity;
+        for (OptionStockStripe stripe : stripes) {
+            long taken = Math.min(stripe.getQuantity(), remaining);
+            stripe.updateQuantity(stripe.getQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0)
+                break;
+        }
+        return true;
+    }
+
+    private void reload() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : optionStockStripeRepository.countGroupByOptionId())
+            counts.put((Long) row[0], ((Long) row[1]).intValue());
+
+        stripeCounts.keySet().retainAll(counts.keySet());
+        stripeCounts.putAll(counts);
+    }
+
+    private Option getOptionForUpdate(Long optionId) {
+        return optionRepository.findByIdForUpdate(optionId).orElseThrow(() ->
+                new Exception404("옵션을 찾을 수 없습니다. 옵션 ID: " + optionId));
+    }
+
+    private static void distribute(List<OptionStockStripe> stripes, Long total) {
+        long[] quantities = split(total, stripes.size());
+        for (int i = 0; i < stripes.size(); i++)
+            stripes.get(i).updateQuantity(quantities[i]);
+    }
+
+    // ** total 을 count 개로 최대한 고르게 나눔 (나머지는 앞 분할부터 1씩)
+    private static long[] split(Long total, int count) {
+        long value = total == null ? 0 : Math.max(total, 0);
+        long[] quantities = new long[count];
+        for (int i = 0; i < count; i++)
+            quantities[i] = value / count + (i < value % count ? 1 : 0);
+        return quantities;
+    }
+
+    private static long sum(List<OptionStockStripe> stripes) {
+        long total = 0;
+        for (OptionStockStripe stripe : stripes)
+            total += stripe.getQuantity();
+        return total;
+    }
+
+    // ** 커밋된 뒤에만 메모리 상태를 바꿈 (롤백되면 그대로)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -18,13 +18,22 @@ import java.util.List;
 @Setter
 @Table(name = "order_tb",
         indexes = {
-                @Index(name = "order_user_id_index", columnList = "user_id")
+                @Index(name = "order_user_id_index", columnList = "user_id"),
+                @Index(name = "order_reference_index", columnList = "reference", unique = true)
         })
 public class Order {
+    // 주문 항목을 한 번에 insert 할 수 있도록 id를 미리 할당 (IDENTITY는 배치 insert 불가)
+    // 초기 데이터(data.sql)의 id와 겹치지 않도록 1000부터 시작
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_seq")
+    @TableGenerator(name = "order_seq", table = "id_generator",
+            pkColumnValue = "order_tb", initialValue = 1000, allocationSize = 50)
     private Long id;
 
+    // 결제 서버에 보내는 주문 번호 (OrderReferenceGenerator)
+    @Column(nullable = false)
+    private Long reference;
+
     @Column(nullable = false)
     private LocalDateTime orderDate;
 
@@ -35,8 +44,9 @@ public class Order {
     private List<Item> orderItems = new ArrayList<>();
 
     @Builder
-    public Order(Long id, LocalDateTime orderDate, User user, List<Item> orderItems) {
+    public Order(Long id, Long reference, LocalDateTime orderDate, User user, List<Item> orderItems) {
         this.id = id;
+        this.reference = reference;
         this.orderDate = orderDate;
         this.user = user;
         this.orderItems = orderItems;
@@ -1,5 +1,6 @@
 package com.example.funitureOnlineShop.order;
 
+import com.example.funitureOnlineShop.core.outbox.OutboxDispatcher;
 import com.example.funitureOnlineShop.core.security.CustomUserDetails;
 import com.example.funitureOnlineShop.core.utils.ApiUtils;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final OutboxDispatcher outboxDispatcher;
 
     @PostMapping("/save")
     public ResponseEntity<?> save (@AuthenticationPrincipal CustomUserDetails customUserDetails){
@@ -33,4 +35,10 @@ public class OrderController {
         ApiUtils.ApiResult<?> apiResult = ApiUtils.success(null);
         return ResponseEntity.ok(ApiUtils.success(apiResult));
     }
+
+    // !< 관리자용 > 주문 이벤트 전달 현황 (전달을 포기한 이벤트 수 포함)
+    @GetMapping("/outbox-stats")
+    public ResponseEntity<?> outboxStats() {
+        return ResponseEntity.ok(ApiUtils.success(outboxDispatcher.stats()));
+    }
 }
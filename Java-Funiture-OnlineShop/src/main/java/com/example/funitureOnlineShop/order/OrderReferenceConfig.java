@@ -0,0 +1,15 @@
+package com.example.funitureOnlineShop.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderReferenceConfig {
+
+    // ** 서버마다 다른 번호를 지정해야 주문 번호가 겹치지 않음
+    @Bean
+    public OrderReferenceGenerator orderReferenceGenerator(@Value("${order.reference.node-id:0}") long nodeId) {
+        return new OrderReferenceGenerator(nodeId);
+    }
+}
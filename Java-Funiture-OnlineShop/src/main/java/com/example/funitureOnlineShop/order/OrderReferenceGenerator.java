@@ -0,0 +1,59 @@
+package com.example.funitureOnlineShop.order;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+
+import java.time.Instant;
+
+// ** 결제에 쓰는 주문 번호 생성기 (64비트, 시간순).
+// ** | 41비트 : 2020-01-01 부터의 ms | 10비트 : 서버 번호 | 12비트 : 같은 ms 안의 순번 |
+// ** - 서버 번호가 서로 다르면 여러 서버에서 만들어도 겹치지 않음 (order.reference.node-id)
+// ** - 한 서버 안에서는 항상 증가 : 시계가 뒤로 가거나 1ms 에 4096개를 넘으면 마지막 시각을 이어서 사용
+public class OrderReferenceGenerator {
+
+    private static final long EPOCH = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastMillis = -1L;
+    private long sequence;
+
+    public OrderReferenceGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("order.reference.node-id 는 0 ~ " + MAX_NODE_ID + " 이어야 합니다. : " + nodeId);
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long next() {
+        long now = System.currentTimeMillis() - EPOCH;
+
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            // ** 순번을 다 쓰면 다음 ms 를 미리 사용 (기다리지 않고, 순서도 유지)
+            lastMillis++;
+            sequence = 0;
+        }
+
+        return (lastMillis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // ** 결제 서버에서 돌아온 주문 번호(문자열) 확인
+    public static Long parse(String reference) {
+        try {
+            long value = Long.parseLong(reference);
+            if (value > 0)
+                return value;
+        } catch (NumberFormatException | NullPointerException ignored) {
+        }
+        throw new Exception400("잘못된 주문 번호입니다. : " + reference);
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.funitureOnlineShop.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order,Long> {
     List<Order> findByUserId(Long userId);
 
+    // ** 주문 번호로 조회 (유니크 인덱스 한 번)
+    Optional<Order> findByReference(Long reference);
+
+    // ** 주문 삭제 (엔티티를 읽지 않고 한 문장으로). 주문 항목을 먼저 삭제해야 함
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
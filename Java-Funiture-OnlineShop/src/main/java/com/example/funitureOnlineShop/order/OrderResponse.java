@@ -4,7 +4,9 @@ import com.example.funitureOnlineShop.order.item.Item;
 import com.example.funitureOnlineShop.product.Product;
 import lombok.Data;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class OrderResponse {
@@ -13,15 +15,21 @@ public class OrderResponse {
     public static class FindByIdDTO{
 
         private Long id;
+        private Long reference;
         private List<ProductDTO> productDTOS;
         private Long totalPrice;
         private Long userId;
 
         public FindByIdDTO(Order order,List<Item> itemList) {
             this.id = order.getId();
-            this.productDTOS = itemList.stream().map(
-                    item -> item.getOption().getProduct()).distinct()
-                    .map(product -> new ProductDTO(itemList, product))
+            this.reference = order.getReference();
+
+            // 상품별로 항목을 한 번에 묶음 (상품 수 x 항목 수 만큼 반복하지 않음)
+            Map<Long, List<Item>> itemsByProductId = itemList.stream()
+                    .collect(Collectors.groupingBy(item -> item.getOption().getProduct().getId(),
+                            LinkedHashMap::new, Collectors.toList()));
+            this.productDTOS = itemsByProductId.values().stream()
+                    .map(items -> new ProductDTO(items, items.get(0).getOption().getProduct()))
                     .collect(Collectors.toList());
 
             this.totalPrice = itemList.stream().mapToLong(Item::getPrice).sum();
@@ -35,7 +43,7 @@ public class OrderResponse {
 
             public ProductDTO(List<Item> items, Product product) {
                 this.productName = product.getProductName();
-                this.items = items.stream().filter(item -> item.getOption().getProduct().getId() == product.getId())
+                this.items = items.stream()
                         .map(ItemDTO::new)
                         .collect(Collectors.toList());
             }
@@ -43,6 +51,7 @@ public class OrderResponse {
             @Data
             public class ItemDTO{
                 private Long id;
+        private Long reference;
                 private String optionName;
                 private Long optionId;
                 private Long quantity;
@@ -1,10 +1,17 @@
 package com.example.funitureOnlineShop.order;
 
 import com.example.funitureOnlineShop.cart.Cart;
+import com.example.funitureOnlineShop.cart.CartCache;
 import com.example.funitureOnlineShop.cart.CartRepository;
+import com.example.funitureOnlineShop.comment.ProductCommentRepository;
+import com.example.funitureOnlineShop.commentFile.CommentFileRepository;
 import com.example.funitureOnlineShop.core.error.exception.Exception404;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.core.outbox.OutboxPublisher;
 import com.example.funitureOnlineShop.option.OptionService;
+import com.example.funitureOnlineShop.order.event.OrderCancelled;
+import com.example.funitureOnlineShop.order.event.OrderPaid;
+import com.example.funitureOnlineShop.order.event.OrderPlaced;
 import com.example.funitureOnlineShop.order.item.Item;
 import com.example.funitureOnlineShop.order.item.ItemRepository;
 import com.example.funitureOnlineShop.orderCheck.OrderCheck;
@@ -26,14 +33,19 @@ import java.util.stream.Collectors;
 public class OrderService {
     private final OrderRepository orderRepository;
     private final CartRepository cartRepository;
+    private final CartCache cartCache;
     private final ItemRepository itemRepository;
     private final OrderCheckRepository orderCheckRepository;
+    private final ProductCommentRepository productCommentRepository;
+    private final CommentFileRepository commentFileRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final OrderReferenceGenerator orderReferenceGenerator;
 
     // 결제 시도시 작동
     @Transactional
     public OrderResponse.FindByIdDTO save(User user) {
-        //장바구니 조회
-        List<Cart> cartList = cartRepository.findAllByUserId(user.getId());
+        // 장바구니 + 옵션 + 상품을 한 번에 조회 (Item 생성 시 배송비를 읽어도 추가 쿼리 없음)
+        List<Cart> cartList = cartRepository.findAllWithOptionAndProductByUserId(user.getId());
 
         if(cartList.isEmpty()){
             throw new Exception404("장바구니에 상품 내역이 존재하지 않습니다.");
@@ -42,6 +54,7 @@ public class OrderService {
         // 주문 생성
         Order order = Order.builder()
                 .user(user)
+                .reference(orderReferenceGenerator.next())
                 .orderDate(LocalDateTime.now())
                 .build();
         List<Item> itemList = new ArrayList<>();
@@ -61,47 +74,51 @@ public class OrderService {
                 itemList.add(item);
             }
 
+            // id를 미리 할당받는 테이블 생성기를 사용하므로 배치 insert 로 저장됨
             itemRepository.saveAll(itemList);
         } catch (Exception e){
             throw new Exception500("주문 생성중 오류가 발생하였습니다.");
         }
-        return new OrderResponse.FindByIdDTO(order, itemList);
+
+        OrderResponse.FindByIdDTO dto = new OrderResponse.FindByIdDTO(order, itemList);
+        // 후속 처리는 커밋 후 아웃박스에서 (같은 트랜잭션에 INSERT 1회만 추가)
+        outboxPublisher.publish(String.valueOf(order.getId()),
+                new OrderPlaced(order.getId(), user.getId(), dto.getTotalPrice(), itemList.size()));
+        return dto;
     }
 
     public OrderResponse.FindByIdDTO findById(Long id) {
         Order order = orderRepository.findById(id).orElseThrow(
             () -> new Exception404("해당주문 내역을 찾을 수 없습니다."+ id));
 
-        List<Item> itemList = itemRepository.findAllByOrderId(id);
+        List<Item> itemList = itemRepository.findAllWithOptionAndProductByOrderId(id);
         return new OrderResponse.FindByIdDTO(order,itemList);
     }
 
+    // 결제 완료 처리: 주문 항목을 주문 내역으로 옮기고 주문, 항목, 장바구니를 삭제.
+    // 항목 수와 무관하게 SQL 5번 (조회 1 + INSERT ... SELECT 1 + 벌크 DELETE 3)
     @Transactional
-    public void delete(String orderId, String  tid) {
-        Long id = Long.parseLong(orderId.substring(orderId.lastIndexOf(":") + 1));
-        Order order = orderRepository.findById(id)
+    public void delete(Long reference, String tid) {
+        Order order = orderRepository.findByReference(reference)
                 .orElseThrow(() -> new Exception404("주문을 찾을 수 없습니다."));
-        List<Item> itemsToDelete = itemRepository.findAllByOrderId(id);
+        Long id = order.getId();
+        Long userId = order.getUser().getId();
 
         try {
-            for (Item item : itemsToDelete) {
-                OrderCheck orderCheck = OrderCheck.builder()
-                        .tid(tid)
-                        .orderId(orderId)
-                        .quantity(item.getQuantity())
-                        .price(item.getPrice())
-                        .orderDate(LocalDateTime.now())
-                        .option(item.getOption())
-                        .user(order.getUser())
-                        .build();
-                orderCheckRepository.save(orderCheck);
-            }
-            orderRepository.delete(order);
-            itemRepository.deleteAll(itemsToDelete);
-            cartRepository.deleteAllByUserId(order.getUser().getId());
+            orderCheckRepository.insertAllFromOrder(id, tid, LocalDateTime.now());
+            itemRepository.deleteAllInBulkByOrderId(id);
+            orderRepository.deleteInBulkById(id);
+            cartRepository.deleteAllByUserId(userId);
+            cartCache.evict(userId);
         } catch (Exception e) {
             throw new Exception500("주문 및 주문 항목 삭제 중 오류가 발생했습니다: " + e.getMessage());
         }
+        outboxPublisher.publish(String.valueOf(reference), new OrderPaid(reference, tid, userId));
+    }
+
+    // 결제할 금액 (결제 전 주문). 주문이 없거나 이미 결제 처리되었으면 null
+    public Long findTotalPriceByReference(Long reference) {
+        return itemRepository.sumPriceByOrderReference(reference);
     }
 
     // ** 페이먼트 관련 기능 추가 ( 작업 : 이아현)
@@ -123,7 +140,12 @@ public class OrderService {
         return totalPrice;
     }
 
+    // 결제 취소: 결제 내역과 그에 달린 후기, 후기 파일을 벌크 삭제 (건수와 무관하게 SQL 3번)
+    @Transactional
     public void cancelOrder(String tid) {
+        commentFileRepository.deleteAllByOrderCheckTid(tid);
+        productCommentRepository.deleteAllByOrderCheckTid(tid);
         orderCheckRepository.deleteAllByTid(tid);
+        outboxPublisher.publish(tid, new OrderCancelled(tid));
     }
 }
@@ -0,0 +1,13 @@
+package com.example.funitureOnlineShop.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 결제 취소 (결제 내역 삭제)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCancelled {
+    private String tid;
+}
@@ -0,0 +1,21 @@
+package com.example.funitureOnlineShop.order.event;
+
+import com.example.funitureOnlineShop.core.outbox.OutboxListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 결제 완료 이벤트 기록 (알림, 통계 등 후속 처리는 같은 방식으로 리스너를 추가)
+@Slf4j
+@Component
+public class OrderEventLogListener implements OutboxListener<OrderPaid> {
+
+    @Override
+    public Class<OrderPaid> eventType() {
+        return OrderPaid.class;
+    }
+
+    @Override
+    public void on(OrderPaid event) {
+        log.info("결제 완료. reference : {}, tid : {}, userId : {}", event.getReference(), event.getTid(), event.getUserId());
+    }
+}
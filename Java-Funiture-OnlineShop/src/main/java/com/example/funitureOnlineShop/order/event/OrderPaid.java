@@ -0,0 +1,15 @@
+package com.example.funitureOnlineShop.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 결제 완료 (주문이 결제 내역으로 옮겨짐)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPaid {
+    private Long reference;
+    private String tid;
+    private Long userId;
+}
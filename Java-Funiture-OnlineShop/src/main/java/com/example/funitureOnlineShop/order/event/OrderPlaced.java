@@ -0,0 +1,16 @@
+package com.example.funitureOnlineShop.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 생성 (결제 전)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlaced {
+    private Long orderId;
+    private Long userId;
+    private Long totalPrice;
+    private int itemCount;
+}
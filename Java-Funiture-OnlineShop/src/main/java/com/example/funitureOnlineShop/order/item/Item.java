@@ -17,8 +17,12 @@ import javax.persistence.*;
                 @Index(name = "item_order_id_index", columnList = "order_id")
         })
 public class Item {
+    // 주문 항목을 한 번에 insert 할 수 있도록 id를 미리 할당 (IDENTITY는 배치 insert 불가)
+    // 초기 데이터(data.sql)의 id와 겹치지 않도록 1000부터 시작
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "item_seq")
+    @TableGenerator(name = "item_seq", table = "id_generator",
+            pkColumnValue = "item_tb", initialValue = 1000, allocationSize = 100)
     private Long id;
 
     @Column(nullable = false)
@@ -28,7 +32,8 @@ public class Item {
     @Column(nullable = false)
     private Long price;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    // ** 주문 항목 -> 옵션 단방향 (옵션 쪽에서 역방향으로 매핑하면 옵션을 읽을 때마다 항목 조회가 한 번씩 더 나감)
+    @ManyToOne(fetch = FetchType.LAZY)
     private Option option;
 
     @ManyToOne(fetch = FetchType.LAZY)
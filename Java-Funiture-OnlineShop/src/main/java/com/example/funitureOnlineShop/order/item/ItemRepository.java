@@ -1,9 +1,43 @@
 package com.example.funitureOnlineShop.order.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item,Long> {
-    List<Item> findAllByOrderId(Long id);
+    List<Item> findAllByOrderReference(Long reference);
+
+    // ** 주문 항목 + 옵션 + 상품을 한 번에 조회 (주문 내역 응답용)
+    @Query("SELECT i FROM Item i JOIN FETCH i.option o JOIN FETCH o.product " +
+            "WHERE i.order.id = :orderId ORDER BY i.id")
+    List<Item> findAllWithOptionAndProductByOrderId(@Param("orderId") Long orderId);
+
+    // ** 주문 금액 (항목 가격 합). 주문이 없으면 null
+    @Query("SELECT SUM(i.price) FROM Item i WHERE i.order.reference = :reference")
+    Long sumPriceByOrderReference(@Param("reference") Long reference);
+
+    // ** 주문의 항목 전체 삭제 (엔티티를 읽지 않고 한 문장으로)
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.order.id = :orderId")
+    int deleteAllInBulkByOrderId(@Param("orderId") Long orderId);
+
+    // ** 옵션 삭제 전에 그 옵션의 주문 항목 삭제
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.option.id = :optionId")
+    int deleteAllInBulkByOptionId(@Param("optionId") Long optionId);
+
+    // ** 상품 삭제 전에 그 상품 옵션들의 주문 항목 삭제
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.option.id IN (SELECT o.id FROM Option o WHERE o.product.id = :productId)")
+    int deleteAllInBulkByProductId(@Param("productId") Long productId);
+
+    // ** 카테고리 삭제 전에 그 카테고리 상품들의 주문 항목 삭제
+    @Modifying
+    @Query("DELETE FROM Item i WHERE i.option.id IN " +
+            "(SELECT o.id FROM Option o WHERE o.product.category.id IN :categoryIds)")
+    int deleteAllInBulkByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
 }
@@ -9,11 +9,15 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
 
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "order_check_order_reference_index", columnList = "order_reference"),
+        @Index(name = "order_check_tid_index", columnList = "tid"),
+        // 회원별 주문 내역을 최신순으로 (정렬까지 인덱스로)
+        @Index(name = "order_check_user_id_order_date_index", columnList = "user_id, order_date")
+})
 @Getter
 public class OrderCheck {
 
@@ -23,7 +27,8 @@ public class OrderCheck {
 
     private String tid;
 
-    private String orderId;
+    // 주문 번호 (Order.reference)
+    private Long orderReference;
 
     private Long quantity;
 
@@ -41,10 +46,10 @@ public class OrderCheck {
     private ProductComment productComment;
 
     @Builder
-    public OrderCheck(Long id, String tid, String orderId, Long quantity, Long price, LocalDateTime orderDate, Option option, User user, ProductComment productComment) {
+    public OrderCheck(Long id, String tid, Long orderReference, Long quantity, Long price, LocalDateTime orderDate, Option option, User user, ProductComment productComment) {
         this.id = id;
         this.tid = tid;
-        this.orderId = orderId;
+        this.orderReference = orderReference;
         this.quantity = quantity;
         this.price = price;
         this.orderDate = orderDate;
@@ -52,8 +57,4 @@ public class OrderCheck {
         this.user = user;
         this.productComment = productComment;
     }
-
-    public static void sortByCreateDate(List<OrderCheck> orderChecks) {
-        orderChecks.sort(Comparator.comparing(OrderCheck::getOrderDate).reversed());
-    }
 }
@@ -16,7 +16,8 @@ public class OrderCheckDto {
     private Long id;
     // 거래 id
     private String tid;
-    private String orderId;
+    // 주문 번호
+    private Long orderReference;
     // 수량
     private Long quantity;
     // 상품명
@@ -37,7 +38,7 @@ public class OrderCheckDto {
     public static OrderCheckDto toOrderCheckDto(OrderCheck orderCheck, Long commentId) {
         return new OrderCheckDto(orderCheck.getId(),
                 orderCheck.getTid(),
-                orderCheck.getOrderId(),
+                orderCheck.getOrderReference(),
                 orderCheck.getQuantity(),
                 orderCheck.getOption().getProduct().getProductName(),
                 orderCheck.getOption().getOptionName(),
@@ -51,7 +52,7 @@ public class OrderCheckDto {
     public OrderCheck toEntity(){
         return OrderCheck.builder()
                 .tid(tid)
-                .orderId(orderId)
+                .orderReference(orderReference)
                 .quantity(quantity)
                 .price(price)
                 .orderDate(orderDate)
@@ -1,13 +1,47 @@
 package com.example.funitureOnlineShop.orderCheck;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderCheckRepository extends JpaRepository<OrderCheck, Long> {
-    List<OrderCheck> findAllByUserId(Long id);
+    // ** 회원의 주문 내역 (상품명, 옵션명, 후기 id 포함)을 최신순으로 한 페이지씩.
+    // ** (user_id, order_date) 인덱스로 찾고 정렬하며, 후기는 LEFT JOIN 으로 함께 조회
+    @Query(value = "SELECT new com.example.funitureOnlineShop.orderCheck.OrderCheckDto(" +
+            "oc.id, oc.tid, oc.orderReference, oc.quantity, p.productName, o.optionName, " +
+            "oc.price, oc.orderDate, o.id, oc.user.id, c.id) " +
+            "FROM OrderCheck oc " +
+            "JOIN oc.option o " +
+            "JOIN o.product p " +
+            "LEFT JOIN oc.productComment c " +
+            "WHERE oc.user.id = :userId AND oc.orderDate > :since " +
+            "ORDER BY oc.orderDate DESC, oc.id DESC",
+            countQuery = "SELECT COUNT(oc) FROM OrderCheck oc " +
+                    "WHERE oc.user.id = :userId AND oc.orderDate > :since")
+    Page<OrderCheckDto> findHistoryByUserId(@Param("userId") Long userId,
+                                            @Param("since") LocalDateTime since,
+                                            Pageable pageable);
 
     List<OrderCheck> findAllByTid(String tid);
 
-    void deleteAllByTid(String tid);
+    // ** 결제 내역 삭제 (엔티티를 읽지 않고 한 문장으로). 달린 후기와 파일을 먼저 삭제해야 함
+    @Modifying
+    @Query("DELETE FROM OrderCheck oc WHERE oc.tid = :tid")
+    int deleteAllByTid(@Param("tid") String tid);
+
+    // ** 결제 완료된 주문의 항목들을 한 문장으로 주문 내역에 복사 (INSERT ... SELECT)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO order_check (tid, order_reference, quantity, price, order_date, option_id, user_id) " +
+            "SELECT :tid, o.reference, i.quantity, i.price, :orderDate, i.option_id, o.user_id " +
+            "FROM item_tb i JOIN order_tb o ON o.id = i.order_id " +
+            "WHERE o.id = :id", nativeQuery = true)
+    int insertAllFromOrder(@Param("id") Long id,
+                           @Param("tid") String tid,
+                           @Param("orderDate") LocalDateTime orderDate);
 }
@@ -0,0 +1,185 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.core.error.exception.Exception503;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+// ** NicePay API 클라이언트.
+// ** HttpClient 하나를 재사용해 연결을 유지(keep-alive)하고, 연결 / 응답 시간 제한을 둠.
+// ** 연결 실패는 지수 백오프로 재시도하고, 502/503/504 와 응답 시간 초과는 다시 보내도 되는 요청(조회, 취소)만 재시도.
+// ** 승인은 다시 보내지 않고 조회 API 로 결과를 확인 (프록시의 502/504 는 게이트웨이가 이미 처리했을 수 있음)
+@Slf4j
+public class PaymentGatewayClient {
+
+    // ** 게이트웨이를 일시적으로 사용할 수 없다는 응답 코드
+    private static final Set<Integer> UNAVAILABLE_STATUS = Set.of(502, 503);
+    // ** 프록시가 게이트웨이 응답을 기다리다 끊은 경우. 게이트웨이는 요청을 처리했을 수 있음
+    private static final int GATEWAY_TIMEOUT = 504;
+
+    private static final String SUCCESS = "0000";
+    private static final String PAID = "paid";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration readTimeout;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    @Getter
+    private final String clientId;
+
+    public PaymentGatewayClient(ObjectMapper objectMapper, String baseUrl, String clientId, String secretKey,
+                                Duration connectTimeout, Duration readTimeout, int maxAttempts, long backoffMillis) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((clientId + ":" + secretKey).getBytes(StandardCharsets.UTF_8));
+        this.readTimeout = readTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    // ** 결제 승인. 응답을 받지 못했으면 조회해서 승인되었을 때만 그 결과를 반환
+    public JsonNode approve(String tid, long amount) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("amount", String.valueOf(amount));
+
+        try {
+            return send(post("/v1/payments/" + tid, body), false);
+        } catch (UnknownOutcomeException e) {
+            log.warn("결제 승인 응답 없음, 조회로 확인. tid : {}", tid);
+            JsonNode payment = find(tid);
+            if (SUCCESS.equals(payment.path("resultCode").asText()) && PAID.equals(payment.path("status").asText()))
+                return payment;
+            throw new Exception503("결제 승인 결과를 확인할 수 없습니다. 잠시 후 다시 확인해 주세요.");
+        }
+    }
+
+    // ** 결제 취소 (같은 orderId 로 다시 보내도 한 번만 취소되므로 응답이 없으면 재시도)
+    public JsonNode cancel(String tid, long amount, String reason, String orderId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("amount", amount);
+        body.put("reason", reason);
+        body.put("orderId", orderId);
+
+        try {
+            return send(post("/v1/payments/" + tid + "/cancel", body), true);
+        } catch (UnknownOutcomeException e) {
+            throw new Exception503("결제 취소 결과를 확인할 수 없습니다. 잠시 후 다시 확인해 주세요.");
+        }
+    }
+
+    // ** 결제 조회 (GET 이므로 항상 재시도 가능)
+    public JsonNode find(String tid) {
+        HttpRequest request = request("/v1/payments/" + tid).GET().build();
+        try {
+            return send(request, true);
+        } catch (UnknownOutcomeException e) {
+            throw new Exception503("결제 서버가 응답하지 않습니다.");
+        }
+    }
+
+    // ** idempotent : 응답 시간 초과 등 결과를 모르는 실패도 재시도해도 되는 요청
+    private JsonNode send(HttpRequest request, boolean idempotent) {
+        for (int attempt = 1; ; attempt++) {
+            boolean last = attempt >= maxAttempts;
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == GATEWAY_TIMEOUT) {
+                    if (!idempotent || last)
+                        throw new UnknownOutcomeException();
+                } else if (UNAVAILABLE_STATUS.contains(response.statusCode())) {
+                    // ** 재시도하지 않는 요청은 처리 여부를 조회로 확인
+                    if (!idempotent)
+                        throw new UnknownOutcomeException();
+                    if (last)
+                        throw new Exception503("결제 서버를 사용할 수 없습니다. : " + response.statusCode());
+                } else if (response.statusCode() >= 500) {
+                    throw new Exception500("결제 서버 오류 : " + response.statusCode());
+                } else {
+                    return objectMapper.readTree(response.body());
+                }
+            } catch (HttpConnectTimeoutException | ConnectException e) {
+                // ** 연결하지 못했으므로 서버는 요청을 받지 않음
+                if (last)
+                    throw new Exception503("결제 서버에 연결할 수 없습니다.");
+            } catch (JsonProcessingException e) {
+                throw new Exception500("결제 서버 응답을 읽을 수 없습니다.");
+            } catch (HttpTimeoutException e) {
+                if (!idempotent || last)
+                    throw new UnknownOutcomeException();
+            } catch (IOException e) {
+                if (!idempotent || last)
+                    throw new UnknownOutcomeException();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UnknownOutcomeException();
+            }
+
+            log.debug("결제 서버 요청 재시도 {}/{} : {}", attempt + 1, maxAttempts, request.uri());
+            backoff(attempt);
+        }
+    }
+
+    // ** backoffMillis * 2^(attempt-1) + 지터
+    private void backoff(int attempt) {
+        long delay = backoffMillis * (1L << Math.min(attempt - 1, 10));
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnknownOutcomeException();
+        }
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new Exception500("결제 요청을 만들 수 없습니다.");
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", authorization);
+    }
+
+    // ** 요청이 처리됐는지 알 수 없는 실패 (응답 시간 초과, 연결 끊김, 502/503/504)
+    private static class UnknownOutcomeException extends RuntimeException {
+        private UnknownOutcomeException() {
+            super(null, null, false, false);
+        }
+    }
+}
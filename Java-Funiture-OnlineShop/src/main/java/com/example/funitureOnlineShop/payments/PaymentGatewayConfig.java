@@ -0,0 +1,29 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PaymentGatewayConfig {
+
+    // ** payment.gateway.* : 결제 서버 주소 / 인증 정보 / 시간 제한 / 재시도
+    // ** 부하 테스트 시 base-url 을 로컬 스텁 서버(NicepayStubServer)로 바꿔서 실행
+    @Bean
+    public PaymentGatewayClient paymentGatewayClient(
+            ObjectMapper objectMapper,
+            @Value("${payment.gateway.base-url:https://sandbox-api.nicepay.co.kr}") String baseUrl,
+            @Value("${payment.gateway.client-id}") String clientId,
+            @Value("${payment.gateway.secret-key}") String secretKey,
+            @Value("${payment.gateway.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${payment.gateway.read-timeout-ms:5000}") long readTimeoutMillis,
+            @Value("${payment.gateway.max-attempts:3}") int maxAttempts,
+            @Value("${payment.gateway.backoff-ms:200}") long backoffMillis) {
+        return new PaymentGatewayClient(objectMapper, baseUrl, clientId, secretKey,
+                Duration.ofMillis(connectTimeoutMillis), Duration.ofMillis(readTimeoutMillis),
+                maxAttempts, backoffMillis);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.funitureOnlineShop.payments;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+// 재고 / 주문에 이미 반영한 결제 ("tid:paid", "tid:cancel").
+// 승인 응답과 웹훅, 웹훅 재전송이 겹쳐도 같은 결제를 한 번만 반영하기 위한 키
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "payment_idempotency_key")
+public class PaymentIdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
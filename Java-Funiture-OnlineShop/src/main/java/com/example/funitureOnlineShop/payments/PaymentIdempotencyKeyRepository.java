@@ -0,0 +1,18 @@
+package com.example.funitureOnlineShop.payments;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PaymentIdempotencyKeyRepository extends JpaRepository<PaymentIdempotencyKey, String> {
+
+    // ** 처음 반영하는 키면 1, 이미 있으면 0.
+    // ** 같은 키를 동시에 넣으면 먼저 넣은 트랜잭션이 끝날 때까지 기다린 뒤 결정됨
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO payment_idempotency_key (idempotency_key, created_at) VALUES (:key, :now)",
+            nativeQuery = true)
+    int insertIgnore(@Param("key") String key, @Param("now") LocalDateTime now);
+}
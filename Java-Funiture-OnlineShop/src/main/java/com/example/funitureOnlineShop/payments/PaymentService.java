@@ -0,0 +1,51 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.example.funitureOnlineShop.option.OptionService;
+import com.example.funitureOnlineShop.order.OrderReferenceGenerator;
+import com.example.funitureOnlineShop.order.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 결제 서버 응답을 받은 뒤의 DB 작업만 트랜잭션으로 묶음 (외부 호출은 트랜잭션 밖에서)
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class PaymentService {
+    private final OptionService optionService;
+    private final OrderService orderService;
+    private final PaymentIdempotencyKeyRepository paymentIdempotencyKeyRepository;
+
+    // 결제 승인 완료: 재고 차감 + 주문을 결제 내역으로 이동.
+    // 승인 응답과 웹훅으로 같은 tid 가 두 번 와도 한 번만 반영. 반영했으면 true
+    @Transactional
+    public boolean complete(String orderId, String tid) {
+        Long reference = OrderReferenceGenerator.parse(orderId);
+        if (paymentIdempotencyKeyRepository.insertIgnore(tid + ":paid", LocalDateTime.now()) == 0)
+            return false;
+
+        optionService.deductStock(reference);
+        orderService.delete(reference, tid);
+        return true;
+    }
+
+    // 이미 반영한 결제 승인 / 취소인지 (kind : paid, cancel)
+    public boolean isApplied(String tid, String kind) {
+        return paymentIdempotencyKeyRepository.existsById(tid + ":" + kind);
+    }
+
+    // 결제 취소 완료: 재고 복구 + 결제 내역 삭제.
+    // 반영된 적 없는 결제(승인 후 주문 처리 실패로 되돌린 결제 등)나 이미 취소한 결제는 무시
+    @Transactional
+    public boolean cancel(String tid) {
+        if (!paymentIdempotencyKeyRepository.existsById(tid + ":paid")
+                || paymentIdempotencyKeyRepository.insertIgnore(tid + ":cancel", LocalDateTime.now()) == 0)
+            return false;
+
+        optionService.restoreStock(tid);
+        orderService.cancelOrder(tid);
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.funitureOnlineShop.payments;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 결제 서버 웹훅 수신함. 받은 그대로 쌓고(재전송도 새 행), 처리 결과만 표시
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "payment_webhook_inbox",
+        indexes = {
+                @Index(name = "idx_payment_webhook_inbox_state", columnList = "state, id"),
+                @Index(name = "idx_payment_webhook_inbox_tid", columnList = "tid")
+        })
+public class PaymentWebhookEvent {
+
+    public enum State {
+        // 처리 대기
+        PENDING,
+        // 재고 / 주문에 반영함
+        PROCESSED,
+        // 반영할 필요 없음 (이미 반영된 tid, 실패 / 대기 상태 알림 등)
+        SKIPPED,
+        // 결제 서버 조회 결과와 맞지 않아 반영하지 않음 (위조 / 잘못된 웹훅)
+        REJECTED,
+        // 처리 중 오류 (재시도 대상)
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 64)
+    private String tid;
+
+    @Column(length = 100)
+    private String orderId;
+
+    // 결제 상태 (paid, canceled, ...)
+    @Column(length = 30)
+    private String status;
+
+    @Column(length = 10)
+    private String resultCode;
+
+    // 받은 원문 (JSON)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private State state;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 255)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public PaymentWebhookEvent(String tid, String orderId, String status, String resultCode,
+                               String payload, LocalDateTime receivedAt) {
+        this.tid = tid;
+        this.orderId = orderId;
+        this.status = status;
+        this.resultCode = resultCode;
+        this.payload = payload;
+        this.state = State.PENDING;
+        this.receivedAt = receivedAt;
+    }
+
+    public void skip() {
+        this.state = State.SKIPPED;
+    }
+
+    public void reject(String reason) {
+        this.state = State.REJECTED;
+        this.lastError = reason == null ? null : reason.substring(0, Math.min(reason.length(), 255));
+    }
+}
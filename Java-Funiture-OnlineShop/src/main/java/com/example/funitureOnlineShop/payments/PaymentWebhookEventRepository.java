@@ -0,0 +1,40 @@
+package com.example.funitureOnlineShop.payments;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    // ** [id, tid] : 처리 대기 중이거나 재시도할 실패 이벤트 (받은 순서)
+    @Query("SELECT e.id, e.tid FROM PaymentWebhookEvent e " +
+            "WHERE e.state = :pending OR (e.state = :failed AND e.attempts < :maxAttempts) ORDER BY e.id")
+    List<Object[]> findIdsToProcess(@Param("pending") PaymentWebhookEvent.State pending,
+                                    @Param("failed") PaymentWebhookEvent.State failed,
+                                    @Param("maxAttempts") int maxAttempts,
+                                    Pageable pageable);
+
+    // ** 처리 완료로 선점. 다른 스레드 / 노드가 이미 처리했으면 0
+    // ** (트랜잭션이 끝날 때까지 행 잠금이 유지되므로 같은 이벤트를 동시에 반영하지 않음)
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.state = :processed, e.processedAt = :now " +
+            "WHERE e.id = :id AND e.state IN :claimable")
+    int claim(@Param("id") Long id,
+              @Param("processed") PaymentWebhookEvent.State processed,
+              @Param("claimable") List<PaymentWebhookEvent.State> claimable,
+              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.state = :failed, e.attempts = e.attempts + 1, e.lastError = :error " +
+            "WHERE e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("failed") PaymentWebhookEvent.State failed,
+                   @Param("error") String error);
+
+    long countByState(PaymentWebhookEvent.State state);
+}
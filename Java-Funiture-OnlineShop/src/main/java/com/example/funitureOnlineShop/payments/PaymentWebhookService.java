@@ -0,0 +1,173 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.order.OrderReferenceGenerator;
+import com.example.funitureOnlineShop.order.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 결제 웹훅 수신함 저장 / 처리
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class PaymentWebhookService {
+    private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+    private final PaymentService paymentService;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String SUCCESS = "0000";
+    private static final String PAID = "paid";
+
+    // 한 이벤트를 처리할 최대 횟수
+    public static final int MAX_ATTEMPTS = 5;
+
+    private static final List<PaymentWebhookEvent.State> CLAIMABLE =
+            List.of(PaymentWebhookEvent.State.PENDING, PaymentWebhookEvent.State.FAILED);
+
+    // 받은 웹훅을 그대로 저장 (INSERT 1회). 처리는 PaymentWebhookWorker 가 나중에
+    @Transactional
+    public PaymentWebhookEvent receive(Map<String, Object> hookMap) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(hookMap);
+        } catch (JsonProcessingException e) {
+            throw new Exception500("웹훅 저장 중 오류가 발생했습니다.");
+        }
+
+        return paymentWebhookEventRepository.save(PaymentWebhookEvent.builder()
+                .tid(asText(hookMap.get("tid")))
+                .orderId(asText(hookMap.get("orderId")))
+                .status(asText(hookMap.get("status")))
+                .resultCode(asText(hookMap.get("resultCode")))
+                .payload(payload)
+                .receivedAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 이벤트 하나를 처리하고 결과 상태를 반환. 다른 곳에서 이미 처리했으면 null
+    // 웹훅 본문은 누구나 보낼 수 있으므로 그대로 믿지 않고, 결제 서버에 tid 로 직접 조회한 결과
+    // (상태, 주문 번호, 금액)가 웹훅 / 저장된 주문과 맞을 때만 반영. 맞지 않으면 REJECTED
+    // 결제 서버 조회는 트랜잭션 밖에서 하고, 선점 / 재고·주문 반영 / 상태 기록만 한 트랜잭션으로 묶음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaymentWebhookEvent process(Long id) {
+        PaymentWebhookEvent received = paymentWebhookEventRepository.findById(id).orElse(null);
+        if (received == null || !CLAIMABLE.contains(received.getState()))
+            return null;
+
+        Action action = actionOf(received);
+        String rejection = action == Action.NONE ? null : verify(received, action);
+
+        return transactionTemplate.execute(status -> {
+            if (paymentWebhookEventRepository.claim(id, PaymentWebhookEvent.State.PROCESSED, CLAIMABLE, LocalDateTime.now()) == 0)
+                return null;
+
+            PaymentWebhookEvent event = paymentWebhookEventRepository.findById(id).orElseThrow();
+            if (rejection != null) {
+                log.warn("결제 웹훅 거절. id : {}, tid : {}, 사유 : {}", id, event.getTid(), rejection);
+                event.reject(rejection);
+                return event;
+            }
+
+            boolean applied = false;
+            if (action == Action.PAID)
+                applied = paymentService.complete(event.getOrderId(), event.getTid());
+            else if (action == Action.CANCELED)
+                applied = paymentService.cancel(event.getTid());
+
+            if (!applied)
+                event.skip();
+            return event;
+        });
+    }
+
+    // 반영해야 할 웹훅인지 (이미 반영한 tid 는 결제 서버를 조회하지 않고 건너뜀)
+    private Action actionOf(PaymentWebhookEvent event) {
+        if (!SUCCESS.equals(event.getResultCode()) || event.getTid() == null)
+            return Action.NONE;
+
+        if (PAID.equalsIgnoreCase(event.getStatus()) && event.getOrderId() != null)
+            return paymentService.isApplied(event.getTid(), "paid") ? Action.NONE : Action.PAID;
+        if (isCanceled(event.getStatus()))
+            return paymentService.isApplied(event.getTid(), "cancel") ? Action.NONE : Action.CANCELED;
+        return Action.NONE;
+    }
+
+    // 결제 서버 조회 결과와 맞지 않으면 거절 사유, 맞으면 null
+    // (조회 자체가 실패하면 예외가 나가고 FAILED 로 남아 다시 시도)
+    private String verify(PaymentWebhookEvent event, Action action) {
+        JsonNode payment = paymentGatewayClient.find(event.getTid());
+
+        if (!SUCCESS.equals(payment.path("resultCode").asText()))
+            return "결제 조회 실패 : " + payment.path("resultCode").asText();
+        if (!event.getTid().equals(payment.path("tid").asText()))
+            return "tid 불일치";
+
+        String status = payment.path("status").asText();
+        if (action == Action.CANCELED)
+            return isCanceled(status) ? null : "취소되지 않은 결제 : " + status;
+
+        if (!PAID.equals(status))
+            return "승인되지 않은 결제 : " + status;
+        if (!event.getOrderId().equals(payment.path("orderId").asText()))
+            return "주문 번호 불일치";
+
+        Long totalPrice;
+        try {
+            totalPrice = orderService.findTotalPriceByReference(OrderReferenceGenerator.parse(event.getOrderId()));
+        } catch (Exception400 e) {
+            return "잘못된 주문 번호";
+        }
+        if (totalPrice == null)
+            return "주문 없음";
+        if (totalPrice != payment.path("amount").asLong())
+            return "결제 금액 불일치 : " + payment.path("amount").asLong() + " / " + totalPrice;
+        return null;
+    }
+
+    private static boolean isCanceled(String status) {
+        return "canceled".equalsIgnoreCase(status) || "cancelled".equalsIgnoreCase(status);
+    }
+
+    private enum Action {
+        NONE, PAID, CANCELED
+    }
+
+    // 처리 실패 기록 (process 트랜잭션은 롤백되므로 별도 트랜잭션)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Long id, String error) {
+        String message = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+        paymentWebhookEventRepository.markFailed(id, PaymentWebhookEvent.State.FAILED, message);
+    }
+
+    // [id, tid] : 처리할 이벤트 (받은 순서로 최대 limit 개)
+    public List<Object[]> findIdsToProcess(int limit) {
+        return paymentWebhookEventRepository.findIdsToProcess(
+                PaymentWebhookEvent.State.PENDING, PaymentWebhookEvent.State.FAILED, MAX_ATTEMPTS,
+                PageRequest.of(0, limit));
+    }
+
+    public long countPending() {
+        return paymentWebhookEventRepository.countByState(PaymentWebhookEvent.State.PENDING);
+    }
+
+    private static String asText(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.funitureOnlineShop.payments;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 결제 웹훅 백그라운드 처리.
+// 같은 tid 의 이벤트는 항상 같은 스레드(lane)에서 받은 순서대로 처리 (승인 -> 취소 순서 보장)
+// 받자마자 바로 처리를 맡기고, 놓친 이벤트(대기열 초과, 재시작, 실패 재시도)는 주기적으로 다시 조회
+@Slf4j
+@Component
+public class PaymentWebhookWorker {
+
+    private static final int LANE_QUEUE_CAPACITY = 1_000;
+    private static final int POLL_BATCH = 100;
+
+    private final PaymentWebhookService paymentWebhookService;
+    private final ThreadPoolExecutor[] lanes;
+
+    // 이 노드에서 처리 중이거나 대기열에 있는 이벤트 id
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final long startedAt = System.nanoTime();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public PaymentWebhookWorker(PaymentWebhookService paymentWebhookService,
+                                @Value("${payment.webhook.worker-threads:4}") int threads) {
+        this.paymentWebhookService = paymentWebhookService;
+        this.lanes = new ThreadPoolExecutor[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadPoolExecutor(
+                    1, 1,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(LANE_QUEUE_CAPACITY),
+                    new CustomizableThreadFactory("payment-webhook-" + i + "-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    // 저장이 끝난(커밋된) 이벤트를 처리 대기열에 넣음
+    public void received(PaymentWebhookEvent event) {
+        received.increment();
+        dispatch(event.getId(), event.getTid());
+    }
+
+    @Scheduled(fixedDelayString = "${payment.webhook.poll-interval-ms:5000}")
+    public void poll() {
+        for (Object[] row : paymentWebhookService.findIdsToProcess(POLL_BATCH))
+            dispatch((Long) row[0], (String) row[1]);
+    }
+
+    private void dispatch(Long id, String tid) {
+        if (!inFlight.add(id))
+            return;
+
+        ThreadPoolExecutor lane = lanes[Math.floorMod(tid == null ? id.hashCode() : tid.hashCode(), lanes.length)];
+        try {
+            lane.execute(() -> run(id));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 다음 조회 때 다시 시도
+            inFlight.remove(id);
+        }
+    }
+
+    private void run(Long id) {
+        try {
+            PaymentWebhookEvent event = paymentWebhookService.process(id);
+            if (event == null)
+                return;
+
+            if (event.getState() == PaymentWebhookEvent.State.SKIPPED)
+                skipped.increment();
+            else if (event.getState() == PaymentWebhookEvent.State.REJECTED)
+                rejected.increment();
+            else
+                processed.increment();
+
+            long lag = Duration.between(event.getReceivedAt(), event.getProcessedAt()).toMillis();
+            totalLagMillis.add(lag);
+            maxLagMillis.accumulateAndGet(lag, Math::max);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("결제 웹훅 처리 실패. id : {}", id, e);
+            paymentWebhookService.markFailed(id, e.getMessage());
+        } finally {
+            inFlight.remove(id);
+        }
+    }
+
+    public Stats stats() {
+        long done = processed.sum() + skipped.sum() + rejected.sum();
+        int queued = 0;
+        for (ThreadPoolExecutor lane : lanes)
+            queued += lane.getQueue().size();
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 1);
+
+        return new Stats(received.sum(), processed.sum(), skipped.sum(), rejected.sum(), failed.sum(),
+                paymentWebhookService.countPending(), queued,
+                done == 0 ? 0 : totalLagMillis.sum() / done, maxLagMillis.get(), done / seconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes)
+            lane.shutdown();
+    }
+
+    @Getter
+    public static class Stats {
+        private final long received;
+        private final long processed;
+        private final long skipped;
+        // 결제 서버 조회 결과와 맞지 않아 거절한 웹훅
+        private final long rejected;
+        private final long failed;
+        // DB 에 남아있는 처리 대기 이벤트 수
+        private final long pending;
+        // 이 노드의 처리 대기열 크기
+        private final int queued;
+        // 수신 ~ 처리 완료 지연 (ms)
+        private final long averageLagMillis;
+        private final long maxLagMillis;
+        // 시작 후 초당 처리 수
+        private final double throughputPerSecond;
+
+        private Stats(long received, long processed, long skipped, long rejected, long failed, long pending, int queued,
+                      long averageLagMillis, long maxLagMillis, double throughputPerSecond) {
+            this.received = received;
+            this.processed = processed;
+            this.skipped = skipped;
+            this.rejected = rejected;
+            this.failed = failed;
+            this.pending = pending;
+            this.queued = queued;
+            this.averageLagMillis = averageLagMillis;
+            this.maxLagMillis = maxLagMillis;
+            this.throughputPerSecond = throughputPerSecond;
+        }
+    }
+}
@@ -1,17 +1,16 @@
 package com.example.funitureOnlineShop.product;
 
+import com.example.funitureOnlineShop.core.file.BlobStore;
 import com.example.funitureOnlineShop.core.utils.ApiUtils;
+import com.example.funitureOnlineShop.core.utils.FileResponseUtils;
 import com.example.funitureOnlineShop.productFile.ProductFileResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -20,12 +19,13 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final BlobStore blobStore;
 
     // 상품 생성
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PostMapping("/save")
     public ResponseEntity<ApiUtils.ApiResult<Long>> save(ProductResponse.SaveByIdDTO productResponseFind,
-                                                         @RequestParam MultipartFile[] files) throws IOException {
+                                                         @RequestParam MultipartFile[] files) {
         // 상품 저장 후 생성된 Product 객체를 반환받습니다.
         Product product = productService.save(productResponseFind, files);
 
@@ -67,23 +67,27 @@ public class ProductController {
         return ResponseEntity.ok(apiResult);
     }
 
-    // 이미지들 찾기
+    // 이미지들 찾기 (?variant=thumbnail|listing|detail)
     @GetMapping("/image/{id}")
-    public ResponseEntity<?> getImage(@PathVariable Long id) throws IOException {
+    public ResponseEntity<Resource> getImage(@PathVariable Long id,
+                                             @RequestParam(required = false) String variant) {
         ProductFileResponse fileDto = productService.findByIdFile(id);
 
-        File file = new File(fileDto.getFilePath() + fileDto.getUuid() + fileDto.getFileName());
-
-        return ResponseEntity.ok()
-                .header("Content-type", Files.probeContentType(file.toPath()))
-                .body(FileCopyUtils.copyToByteArray(file));
+        return FileResponseUtils.image(
+                blobStore,
+                fileDto.getUuid(),
+                fileDto.getFilePath(),
+                fileDto.getFileName(),
+                fileDto.getFileType(),
+                fileDto.getVariants(),
+                variant);
     }
 
     // 상품 수정
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PostMapping("/update")
     public ResponseEntity<?> update(ProductResponse.UpdateDTO updateDTO,
-                                    @RequestParam MultipartFile[] files) throws IOException {
+                                    @RequestParam MultipartFile[] files) {
         ProductResponse.FindByCategoryDTO updatedProduct = productService.update(updateDTO, files);
         ApiUtils.ApiResult<?> apiResult = ApiUtils.success(updatedProduct);
         return ResponseEntity.ok(apiResult);
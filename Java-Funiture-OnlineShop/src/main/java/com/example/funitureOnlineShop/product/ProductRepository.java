@@ -3,11 +3,21 @@ package com.example.funitureOnlineShop.product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategoryId(Long categoryId);
 
     Page<Product> findAllByCategoryId(Long categoryId, PageRequest of);
+
+    // 상품 상세 조회용 : 카테고리와 옵션을 한 번의 쿼리로 함께 로딩
+    @Query("SELECT DISTINCT p FROM Product p " +
+            "JOIN FETCH p.category " +
+            "LEFT JOIN FETCH p.options " +
+            "WHERE p.id = :id")
+    Optional<Product> findDetailById(@Param("id") Long id);
 }
@@ -1,11 +1,13 @@
 package com.example.funitureOnlineShop.product;
 
+import com.example.funitureOnlineShop.cart.CartCache;
 import com.example.funitureOnlineShop.category.Category;
 import com.example.funitureOnlineShop.category.CategoryRepository;
-import com.example.funitureOnlineShop.core.error.exception.Exception400;
 import com.example.funitureOnlineShop.core.error.exception.Exception404;
-import com.example.funitureOnlineShop.option.Option;
+import com.example.funitureOnlineShop.core.file.FileUploadService;
+import com.example.funitureOnlineShop.core.file.StoredFile;
 import com.example.funitureOnlineShop.option.OptionRepository;
+import com.example.funitureOnlineShop.order.item.ItemRepository;
 import com.example.funitureOnlineShop.productFile.ProductFile;
 import com.example.funitureOnlineShop.productFile.ProductFileRepository;
 import com.example.funitureOnlineShop.productFile.ProductFileResponse;
@@ -14,14 +16,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -33,107 +32,88 @@ public class ProductService {
     private final OptionRepository optionRepository;
     private final ProductFileRepository productFileRepository;
     private final CategoryRepository categoryRepository;
-
-    private final List<String> isImage = new ArrayList<>(Arrays.asList(
-            ".tiff", ".jfif", ".bmp", ".gif", ".svg", ".png", ".jpeg",
-            ".svgz", ".webp", ".jpg", ".ico", ".xbm", ".dib", ".pjp",
-            ".apng", ".tif", ".pjpeg", "avif"));
-
-    // ------------<파일경로>-------------
-    // !!!!!!!!!! 꼭 반드시 테스트시 파일 경로 특히 사용자명 확인할것 !!!!!!!!!!
-    private final String filePath = "C:/shoppingFiles/";
-
-    @Transactional
-    public Product save(ProductResponse.SaveByIdDTO saveByIdDTO, MultipartFile[] files) throws IOException {
-        // categoryId를 사용하여 Category 엔티티를 찾음
-        Category category = categoryRepository.findById(saveByIdDTO.getCategoryId())
-                .orElseThrow( () -> new Exception404("해당 카테고리가 존재하지 않습니다."));
-
-        // 상품 엔티티 생성 및 카테고리 할당
-        Product productEntity = Product.builder()
-                .productName(saveByIdDTO.getProductName())
-                .description(saveByIdDTO.getDescription())
-                .price(saveByIdDTO.getPrice())
-                .deliveryFee(saveByIdDTO.getDeliveryFee())
-                .category(category) // 찾은 Category 설정
-                .build();
-
-        // 상품 엔티티 저장
-        Product savedProduct = productRepository.save(productEntity);
-
-        // 파일 처리 로직
-        saveFiles(files, savedProduct);
-
-        return savedProduct;
+    private final ItemRepository itemRepository;
+    private final FileUploadService fileUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private final CartCache cartCache;
+
+    // 상품 목록 페이지 한 번에 보여줄 수 있는 최대 상품 수
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 파일은 트랜잭션 밖에서 먼저 저장하고, DB 작업만 트랜잭션으로 묶음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Product save(ProductResponse.SaveByIdDTO saveByIdDTO, MultipartFile[] files) {
+        List<StoredFile> storedFiles = fileUploadService.store(files, true);
+
+        return transactionTemplate.execute(status -> {
+            // categoryId를 사용하여 Category 엔티티를 찾음
+            Category category = categoryRepository.findById(saveByIdDTO.getCategoryId())
+                    .orElseThrow( () -> new Exception404("해당 카테고리가 존재하지 않습니다."));
+
+            // 상품 엔티티 생성 및 카테고리 할당
+            Product productEntity = Product.builder()
+                    .productName(saveByIdDTO.getProductName())
+                    .description(saveByIdDTO.getDescription())
+                    .price(saveByIdDTO.getPrice())
+                    .deliveryFee(saveByIdDTO.getDeliveryFee())
+                    .category(category) // 찾은 Category 설정
+                    .build();
+
+            // 상품 엔티티 저장
+            Product savedProduct = productRepository.save(productEntity);
+
+            // 파일 정보 저장
+            saveFiles(storedFiles, savedProduct);
+
+            return savedProduct;
+        });
     }
 
-    @Transactional
-    public void saveFiles(MultipartFile[] files, Product product) throws IOException {
-        if (!files[0].isEmpty()) {
-            Path uploadPath = Paths.get(filePath);
-
-            // 만약 경로가 없다면... 경로 생성
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            for (MultipartFile file : files) {
-                // 파일명 추출
-                String originalFilename = file.getOriginalFilename();
-
-                // 확장자 추출
-                String formatType = originalFilename.substring(
-                        originalFilename.lastIndexOf("."));
-
-                if (!isImage.contains(formatType))
-                    throw new Exception400("이미지 파일만 가능합니다.");
-
-                // UUID 생성
-                String uuid = UUID.randomUUID().toString();
-
-                // 경로 지정
-                String path = filePath + uuid + originalFilename;
-
-                // 파일을 물리적으로 저장 (DB에 저장 X)
-                file.transferTo( new File(path) );
-
-                ProductFile productFile = ProductFile.builder()
-                        .filePath(filePath)
-                        .fileName(originalFilename)
-                        .uuid(uuid)
-                        .fileType(formatType)
-                        .fileSize(file.getSize())
+    // 저장된 파일들의 정보를 한 번에 저장 (배치 insert)
+    private void saveFiles(List<StoredFile> storedFiles, Product product) {
+        List<ProductFile> productFiles = storedFiles.stream()
+                .map(storedFile -> ProductFile.builder()
+                        .fileName(storedFile.getFileName())
+                        .uuid(storedFile.getKey())
+                        .fileType(storedFile.getFileType())
+                        .fileSize(storedFile.getFileSize())
+                        .variants(storedFile.getVariants())
                         .product(product)
-                        .build();
+                        .build())
+                .collect(Collectors.toList());
 
-                productFileRepository.save(productFile);
-            }
-        }
+        productFileRepository.saveAll(productFiles);
     }
 
     // 상품 수정 서비스
-    @Transactional
-    public ProductResponse.FindByCategoryDTO update(ProductResponse.UpdateDTO updateDTO, MultipartFile[] files) throws IOException {
-        Product product = getProduct(updateDTO.getId());
-        Category category = categoryRepository.findById(updateDTO.getCategoryId()).get();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductResponse.FindByCategoryDTO update(ProductResponse.UpdateDTO updateDTO, MultipartFile[] files) {
+        List<StoredFile> storedFiles = fileUploadService.store(files, true);
 
-        product.update(updateDTO, category);
+        return transactionTemplate.execute(status -> {
+            Product product = getProduct(updateDTO.getId());
+            Category category = categoryRepository.findById(updateDTO.getCategoryId()).get();
 
-        // 수정된 제품에 해당하는 옵션 리스트를 가져옴
-        List<Option> optionList = optionRepository.findByProductId(product.getId());
+            product.update(updateDTO, category);
+            // ** 장바구니 화면에 상품 가격이 들어 있으므로 비움
+            cartCache.evictAll();
 
-        // 상품 id에 따른 FileProduct를 찾는 코드
-        productFileRepository.deleteAllByProductId(updateDTO.getId());
-        saveFiles(files, product);
+            // 상품 id에 따른 FileProduct를 찾는 코드
+            productFileRepository.deleteAllByProductId(updateDTO.getId());
+            saveFiles(storedFiles, product);
 
-        // 수정된 제품 정보를 FindByIdDTO 객체로 변환하여 반환
-        return ProductResponse.FindByCategoryDTO.toDto(product, new ProductFile());
+            // 수정된 제품 정보를 FindByIdDTO 객체로 변환하여 반환
+            return ProductResponse.FindByCategoryDTO.toDto(product, new ProductFile());
+        });
     }
 
     // 삭제 서비스
     @Transactional
     public void delete(Long id) {
         getProduct(id);
+        cartCache.evictAll();
+        // ** 주문 항목은 옵션에서 cascade 되지 않으므로 먼저 삭제
+        itemRepository.deleteAllInBulkByProductId(id);
         productRepository.deleteById(id);
     }
 
@@ -154,16 +134,17 @@ public class ProductService {
 
     // ID로 특정 상품 하나 찾기
     public ProductResponse.FindByIdDTO findById(Long id) {
-        Product product = getProduct(id);
-        List<Option> optionList = optionRepository.findByProductId(product.getId());
+        // 상품 + 카테고리 + 옵션을 한 번에 로딩 (옵션 수와 무관하게 쿼리 1회)
+        Product product = productRepository.findDetailById(id)
+                .orElseThrow(() -> new Exception404("해당 상품을 찾을 수 없습니다."));
 
-        // 상품 id에 따른 FileProduct들을 찾는 코드
+        // 상품 id에 따른 FileProduct들을 찾는 코드 (이미지 수와 무관하게 쿼리 1회)
         List<ProductFile> productFileList = productFileRepository.findByProductId(id);
 
         if (productFileList.isEmpty())
             productFileList.add(new ProductFile());
 
-        return ProductResponse.FindByIdDTO.toDto(product, optionList, productFileList);
+        return ProductResponse.FindByIdDTO.toDto(product, product.getOptions(), productFileList);
     }
 
     public ProductFileResponse findByIdFile(Long id) {
@@ -179,18 +160,28 @@ public class ProductService {
 
     public Page<ProductResponse.FindByCategoryDTO> paging(Long categoryId, Pageable pageable) {
         // ** 페이지 시작 번호
-        int page = pageable.getPageNumber() - 1;
+        int page = Math.max(pageable.getPageNumber() - 1, 0);
 
-        // ** 페이지에 포함될 게시물 개수
-        int size = 10;
+        // ** 페이지에 포함될 게시물 개수 (최대 MAX_PAGE_SIZE 개)
+        int size = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
 
         Page<Product> products = productRepository.findAllByCategoryId(
                 categoryId, PageRequest.of(page, size));
+
+        // ** 페이지에 포함된 상품들의 이미지를 한 번에 조회 후 상품 id별로 묶음
+        List<Long> productIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ProductFile>> filesByProductId = productIds.isEmpty()
+                ? Collections.emptyMap()
+                : productFileRepository.findAllByProductIds(productIds).stream()
+                        .collect(Collectors.groupingBy(file -> file.getProduct().getId()));
+
         return products.map(product -> new ProductResponse.FindByCategoryDTO(
                 product.getId(),
                 product.getProductName(),
                 product.getPrice(),
-                productFileRepository.findByProductId(product.getId())));
+                filesByProductId.getOrDefault(product.getId(), Collections.emptyList())));
     }
 
     public List<ProductResponse.FindByCategoryDTO> findByCategoryId(Long categoryId) {
@@ -12,35 +12,43 @@ import javax.persistence.*;
 @Entity
 public class ProductFile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 여러 파일을 한 번에 insert 할 수 있도록 id를 미리 50개씩 할당 (IDENTITY는 배치 insert 불가)
+    // 초기 데이터(data.sql)의 id와 겹치지 않도록 1000부터 시작
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_file_seq")
+    @TableGenerator(name = "product_file_seq", table = "id_generator",
+            pkColumnValue = "product_file", initialValue = 1000, allocationSize = 50)
     private Long id;
 
-    // ** 파일 경로
+    // ** 파일 경로 (예전 데이터용, 새 파일은 BlobStore 에 uuid 키로 저장되어 비어 있음)
     private String filePath;
 
     // ** 파일 이름
     private String fileName;
 
-    // ** 파일 포멧
+    // ** 파일 포멧 (MIME 타입, 예: image/png)
     private String fileType;
 
-    // ** 파일 uuid
+    // ** 저장소 키 (내용 해시)
     private String uuid;
 
     // ** 파일 크기
     private Long fileSize;
 
+    // ** 업로드 시 만들어진 변환 이미지 목록 (예: thumbnail,listing,detail)
+    private String variants;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
     @Builder
-    public ProductFile(Long id, String filePath, String fileName, String fileType, String uuid, Long fileSize, Product product) {
+    public ProductFile(Long id, String filePath, String fileName, String fileType, String uuid, Long fileSize, String variants, Product product) {
         this.id = id;
         this.filePath = filePath;
         this.fileName = fileName;
         this.fileType = fileType;
         this.uuid = uuid;
         this.fileSize = fileSize;
+        this.variants = variants;
         this.product = product;
     }
 }
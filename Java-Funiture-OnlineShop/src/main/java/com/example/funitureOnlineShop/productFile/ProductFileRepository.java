@@ -1,11 +1,28 @@
 package com.example.funitureOnlineShop.productFile;
 
+import com.example.funitureOnlineShop.core.file.BlobReferences;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ProductFileRepository extends JpaRepository<ProductFile, Long> {
+public interface ProductFileRepository extends JpaRepository<ProductFile, Long>, BlobReferences {
     List<ProductFile> findByProductId(Long productId);
 
-    void deleteAllByProductId(Long id);
+    // 여러 상품의 이미지를 IN 쿼리 한 번으로 조회 (상품 목록 페이지용)
+    @Query("SELECT f FROM ProductFile f WHERE f.product.id IN :productIds ORDER BY f.id")
+    List<ProductFile> findAllByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 상품의 이미지 정보 전체 삭제 (엔티티를 읽지 않고 한 문장으로)
+    @Modifying
+    @Query("DELETE FROM ProductFile f WHERE f.product.id = :id")
+    int deleteAllByProductId(@Param("id") Long id);
+
+    // 파일 정리 시 참조 중인 저장소 키 확인
+    @Override
+    @Query("SELECT DISTINCT f.uuid FROM ProductFile f WHERE f.uuid IN :keys")
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
 }
@@ -1,5 +1,6 @@
 package com.example.funitureOnlineShop.productFile;
 
+import com.example.funitureOnlineShop.core.file.ImageVariant;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,6 +30,9 @@ public class ProductFileResponse {
     // ** 파일 크기
     private Long fileSize;
 
+    // ** 변환 이미지 목록
+    private String variants;
+
     public ProductFileResponse(ProductFile productFile) {
         this.id = productFile.getId();
         this.filePath = productFile.getFilePath();
@@ -36,6 +40,7 @@ public class ProductFileResponse {
         this.uuid = productFile.getUuid();
         this.fileType = productFile.getFileType();
         this.fileSize = productFile.getFileSize();
+        this.variants = productFile.getVariants();
     }
 
     public ProductFile toEntity() {
@@ -45,6 +50,7 @@ public class ProductFileResponse {
                 .uuid(uuid)
                 .fileType(fileType)
                 .fileSize(fileSize)
+                .variants(variants)
                 .build();
     }
 
@@ -55,6 +61,15 @@ public class ProductFileResponse {
                 productFile.getFileName(),
                 productFile.getUuid(),
                 productFile.getFileType(),
-                productFile.getFileSize());
+                productFile.getFileSize(),
+                productFile.getVariants());
+    }
+
+    // ** 화면에서 사용할 이미지 주소. 요청한 크기가 만들어져 있으면 그 이미지, 아니면 원본
+    public String imageUrl(String variant) {
+        ImageVariant imageVariant = ImageVariant.from(variant);
+        if (imageVariant != null && imageVariant.isIn(variants))
+            return "/product/image/" + id + "?variant=" + imageVariant.getKey();
+        return "/product/image/" + id;
     }
 }
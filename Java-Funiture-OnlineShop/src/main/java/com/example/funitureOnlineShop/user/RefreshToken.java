@@ -0,0 +1,55 @@
+package com.example.funitureOnlineShop.user;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_family", columnList = "family"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        })
+// 발급한 갱신 토큰. 원문은 저장하지 않고 SHA-256 해시만 저장
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 토큰 원문의 SHA-256 (hex)
+    @Column(name = "token_hash", length = 64, nullable = false)
+    private String tokenHash;
+
+    // 로그인 한 번에서 이어진 갱신 토큰 묶음. 재사용이 감지되면 묶음 전체를 폐기
+    @Column(length = 36, nullable = false)
+    private String family;
+
+    // 한 번 교환된 토큰 (다시 쓰이면 탈취로 판단)
+    @Column(nullable = false)
+    private boolean used;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public RefreshToken(Long id, User user, String tokenHash, String family, boolean used, LocalDateTime expiresAt) {
+        this.id = id;
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.family = family;
+        this.used = used;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.funitureOnlineShop.user;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.funitureOnlineShop.core.error.exception.Exception401;
+import com.example.funitureOnlineShop.core.security.JwtTokenProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+// 갱신 토큰 발급 / 교환(rotation). 토큰은 한 번만 교환할 수 있고,
+// 이미 교환된 토큰이 다시 오면 탈취로 보고 같은 로그인에서 이어진 토큰을 전부 폐기
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 로그인 시 새 묶음으로 발급
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // 갱신 토큰을 새 접근 토큰 + 새 갱신 토큰으로 교환.
+    // 재사용 감지 시 묶음 폐기는 401 을 던져도 커밋되어야 하므로 롤백하지 않음
+    @Transactional(noRollbackFor = Exception401.class)
+    public Tokens rotate(String refreshToken) {
+        if (refreshToken == null)
+            throw new Exception401("갱신 토큰이 없습니다.");
+
+        try {
+            JwtTokenProvider.verifyRefresh(refreshToken);
+        } catch (JWTVerificationException e) {
+            throw new Exception401("유효하지 않은 갱신 토큰입니다.");
+        }
+
+        RefreshToken stored = refreshTokenRepository
+                .findWithUserByTokenHash(JwtTokenProvider.sha256Hex(refreshToken))
+                .orElseThrow(() -> new Exception401("폐기된 갱신 토큰입니다."));
+
+        // 이미 교환된 토큰 (동시에 들어온 같은 토큰 포함) -> 묶음 전체 폐기
+        if (stored.isUsed() || refreshTokenRepository.markUsed(stored.getId()) == 0) {
+            log.warn("갱신 토큰 재사용 감지. user id : {}", stored.getUser().getId());
+            refreshTokenRepository.deleteAllByFamily(stored.getFamily());
+            throw new Exception401("이미 사용된 갱신 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        User user = stored.getUser();
+        return new Tokens(JwtTokenProvider.create(user), issue(user, stored.getFamily()));
+    }
+
+    // 로그아웃 / 탈퇴 시 회원의 갱신 토큰 전부 폐기
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+    }
+
+    private String issue(User user, String family) {
+        String refreshToken = JwtTokenProvider.createRefresh(user);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                JWT.decode(refreshToken).getExpiresAt().toInstant(), ZoneId.systemDefault());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(JwtTokenProvider.sha256Hex(refreshToken))
+                .family(family)
+                .expiresAt(expiresAt)
+                .build());
+        return refreshToken;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Tokens {
+        // "Bearer " 가 붙은 접근 토큰
+        private final String accessToken;
+        private final String refreshToken;
+    }
+}
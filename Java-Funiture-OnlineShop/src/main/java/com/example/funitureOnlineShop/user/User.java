@@ -61,16 +61,8 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderCheck> orderChecks = new ArrayList<>();
 
-    // 갱신 토큰
-    @Column
-    private String refreshToken;
-
-    public void setRefreshToken(String refreshToken){
-        this.refreshToken = refreshToken;
-    }
-
     @Builder
-    public User(Long id, String email, String password, String username, String phoneNumber, String address, List<String> roles, List<Board> boards, List<Cart> carts, List<Order> orders, List<OrderCheck> orderChecks, String refreshToken) {
+    public User(Long id, String email, String password, String username, String phoneNumber, String address, List<String> roles, List<Board> boards, List<Cart> carts, List<Order> orders, List<OrderCheck> orderChecks) {
         this.id = id;
         this.email = email;
         this.password = password;
@@ -82,7 +74,11 @@ public class User {
         this.carts = carts;
         this.orders = orders;
         this.orderChecks = orderChecks;
-        this.refreshToken = refreshToken;
+    }
+
+    // 비밀번호 변경 (인코딩된 값)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
     }
 
     // 회원 정보 출력
@@ -94,6 +90,5 @@ public class User {
         System.out.println("phoneNumber : " + phoneNumber);
         System.out.println("address : " + address);
         System.out.println("roles : " + roles);
-        System.out.println("refreshToken : " + refreshToken);
     }
 }
@@ -34,6 +34,15 @@ public class UserController {
                 .body(ApiUtils.success(null));
     }
 
+    // 갱신 토큰으로 접근 토큰 재발급
+    @PostMapping("/refresh")
+    public ResponseEntity<Object> refresh(@CookieValue(value = "refreshToken", required = false) String refreshToken,
+                                          HttpServletResponse res){
+        String jwt = userService.refresh(refreshToken, res);
+        return ResponseEntity.ok().header(JwtTokenProvider.HEADER, jwt)
+                .body(ApiUtils.success(null));
+    }
+
     // 로그아웃
     @PostMapping("/logout")
     public ResponseEntity<Object> logout(@AuthenticationPrincipal CustomUserDetails customUserDetails, HttpServletResponse res, Error error){
@@ -48,6 +57,12 @@ public class UserController {
         return ResponseEntity.ok(ApiUtils.success(userDTO));
     }
 
+    // !< 관리자용 > 로그인 사용자 캐시 통계
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getUserDetailsCacheStats() {
+        return ResponseEntity.ok(ApiUtils.success(userService.getUserDetailsCacheStats()));
+    }
+
     // 회원탈퇴
     @PostMapping("/delete")
     public ResponseEntity<?> deleteById(@AuthenticationPrincipal CustomUserDetails customUserDetails){
@@ -4,8 +4,11 @@ import com.example.funitureOnlineShop.core.error.exception.Exception400;
 import com.example.funitureOnlineShop.core.error.exception.Exception401;
 import com.example.funitureOnlineShop.core.error.exception.Exception404;
 import com.example.funitureOnlineShop.core.error.exception.Exception500;
+import com.example.funitureOnlineShop.core.error.exception.Exception503;
 import com.example.funitureOnlineShop.core.security.CustomUserDetails;
 import com.example.funitureOnlineShop.core.security.JwtTokenProvider;
+import com.example.funitureOnlineShop.core.security.TokenRevocationStore;
+import com.example.funitureOnlineShop.core.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -34,6 +37,14 @@ public class UserService {
     private final UserRepository userRepository;
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsCache userDetailsCache;
+
+    // 갱신 토큰 쿠키 (갱신 요청에만 전송)
+    private static final String REFRESH_COOKIE = "refreshToken";
+    private static final String REFRESH_COOKIE_PATH = "/user/refresh";
+    private static final int REFRESH_COOKIE_MAX_AGE = 60 * 60 * 24 * 60;
 
     @Transactional
     public void join(UserRequest.JoinDto joinDto) {
@@ -57,8 +68,8 @@ public class UserService {
 
     // 이미 존재하는 이메일인지 확인
     public void checkEmail(String email){
-        Optional<User> users = userRepository.findByEmail(email);
-        if (users.isPresent()){
+        // 최근 로그인한 회원이면 조회 없이 판단, 아니면 존재 여부만 조회
+        if (userDetailsCache.contains(email) || userRepository.existsByEmail(email)){
             throw new Exception400("이미 존재하는 이메일입니다. : " + email);
         }
     }
@@ -73,9 +84,6 @@ public class UserService {
                     = new UsernamePasswordAuthenticationToken(
                     loginDto.getEmail(), loginDto.getPassword());
 
-            String pppp = passwordEncoder.encode("asdf1234!");
-            System.out.println(pppp);
-
             // anonymousUser = 비인증
             Authentication authentication
                     = authenticationManager.authenticate(token);
@@ -87,16 +95,38 @@ public class UserService {
             User user = customUserDetails.getUser();
             String prefixJwt = JwtTokenProvider.create(user);
             String accessToken = prefixJwt.replace(JwtTokenProvider.TOKEN_PREFIX,"");
-            String refreshToken = JwtTokenProvider.createRefresh(user);
-            user.setRefreshToken(refreshToken);
+            String refreshToken = refreshTokenService.issue(user);
             setCookie(res, "token", accessToken);
+            setRefreshCookie(res, refreshToken);
 
             return prefixJwt;
+        }catch (Exception503 e){
+            // 비밀번호 해시 대기열이 가득 참 (인증 실패가 아님)
+            throw e;
         }catch (Exception e){
             throw new Exception401("인증되지 않음.");
         }
     }
 
+    // 갱신 토큰으로 접근 토큰 재발급 (BCrypt 인증 없이 HMAC 검증 + 해시 조회)
+    // 갱신 토큰도 새로 발급되며 이전 갱신 토큰은 더 이상 쓸 수 없음
+    @Transactional(noRollbackFor = Exception401.class)
+    public String refresh(String refreshToken, HttpServletResponse res) {
+        RefreshTokenService.Tokens tokens = refreshTokenService.rotate(refreshToken);
+
+        setCookie(res, "token", tokens.getAccessToken().replace(JwtTokenProvider.TOKEN_PREFIX, ""));
+        setRefreshCookie(res, tokens.getRefreshToken());
+        return tokens.getAccessToken();
+    }
+
+    private void setRefreshCookie(HttpServletResponse res, String refreshToken) {
+        Cookie cookie = new Cookie(REFRESH_COOKIE, refreshToken);
+        cookie.setMaxAge(REFRESH_COOKIE_MAX_AGE);
+        cookie.setPath(REFRESH_COOKIE_PATH);
+        cookie.setHttpOnly(true);
+        res.addCookie(cookie);
+    }
+
     // 쿠키 설정
     private void setCookie(HttpServletResponse res, String name, String value){
         Cookie cookie = new Cookie(name, value);
@@ -123,6 +153,10 @@ public class UserService {
         try {
             killToken(user);
             deleteCookie(res, "token");
+            Cookie refreshCookie = new Cookie(REFRESH_COOKIE, null);
+            refreshCookie.setMaxAge(0);
+            refreshCookie.setPath(REFRESH_COOKIE_PATH);
+            res.addCookie(refreshCookie);
         } catch (Exception e){
             throw new Exception500("로그아웃 도중 에러가 발생했습니다.");
         }
@@ -131,10 +165,15 @@ public class UserService {
     // 토큰 삭제
     public void killToken(User user){
         // DB에서 갱신 토큰 삭제
-        user.setRefreshToken(null);
-        // 사용한 토큰의 재사용 막기 (블랙리스트로 이동)
+        refreshTokenService.revokeAll(user.getId());
+        // 사용한 토큰의 재사용 막기 (토큰 만료 시각까지 폐기 목록에 등록)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        JwtTokenProvider.invalidateToken(authentication);
+        JwtTokenProvider.invalidateToken(authentication, tokenRevocationStore);
+    }
+
+    // 관리자용: 로그인 사용자 캐시 적중 / 실패 수
+    public UserDetailsCache.Stats getUserDetailsCacheStats() {
+        return userDetailsCache.stats();
     }
 
     public UserResponse.UserDTO getUserInfo(Long id) {
@@ -157,6 +196,8 @@ public class UserService {
         if (optionalUser.isEmpty())
             throw new Exception404("존재하지 않는 회원입니다.");
         try {
+            userDetailsCache.evict(optionalUser.get().getEmail());
+            refreshTokenService.revokeAll(id);
             userRepository.deleteById(id);
         } catch (Exception e) {
             throw new Exception500("탈퇴 도중 에러가 발생했습니다.");
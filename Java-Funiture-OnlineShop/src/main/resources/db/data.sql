@@ -108,28 +108,28 @@ insert into product_file (id, file_name, file_path, file_size, file_type, uuid,
 insert into product_file (id, file_name, file_path, file_size, file_type, uuid, product_id) values (8, 'pic8.png', 'C:/shoppingFiles/', 58636, '.png', 'asdf-asdf-asdf', 4);
 insert into product_file (id, file_name, file_path, file_size, file_type, uuid, product_id) values (9, 'pic9.png', 'C:/shoppingFiles/', 58636, '.png', 'asdf-asdf-asdf', 5);
 
-insert into order_tb (id, order_date, user_id) values (1, '2023-12-27', 1);
+insert into order_tb (id, reference, order_date, user_id) values (1, 527636732313600000, '2023-12-27', 1);
 
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (1,  4000,  '2019-08-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 1, 'UT0010033m01011011918398698684', 3, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (2,  8000,  '2023-08-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 2, 'UT0010033m01019235923148442464', 6, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (3,  12000, '2023-08-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01029782978428442464', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (4,  12000, '2023-10-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01119184428442464464', 8, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (5,  12000, '2023-10-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012402495695638073', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (6,  12000, '2023-10-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01011011918442487826', 7, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (7,  12000, '2023-10-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012414963916391664', 8, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (8,  12000, '2023-10-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012454119184823792', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (9,  12000, '2023-10-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011918398664', 7, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (10, 12000, '2023-10-31 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011914459464', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (11, 12000, '2023-10-31 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401049722842664', 8, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (12, 12000, '2023-12-11 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011918442484', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (13, 12000, '2023-12-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011259563807', 7, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (14, 12000, '2023-12-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011918378526', 8, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (15, 12000, '2023-12-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401019846963916', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (16, 12000, '2023-12-21 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401024958997923', 7, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (17, 12000, '2023-12-31 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011918394986', 8, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (18, 12000, '2023-12-31 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401238475923164', 9, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (19, 12000, '2023-12-31 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011912978426', 7, 1);
-insert into order_check (id, price, order_date, order_id, quantity, tid, option_id, user_id) values (20, 12000, '2024-01-01 08:43:12', '7125ba6b-f8fa-4b97-a2e4-f35cc222fe4c:2', 3, 'UT0010033m01012401011918442464', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (1,  4000,  '2019-08-11 08:43:12', 477758874451968000, 1, 'UT0010033m01011011918398698684', 3, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (2,  8000,  '2023-08-21 08:43:12', 477758874451968000, 2, 'UT0010033m01019235923148442464', 6, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (3,  12000, '2023-08-21 08:43:12', 477758874451968000, 3, 'UT0010033m01029782978428442464', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (4,  12000, '2023-10-11 08:43:12', 477758874451968000, 3, 'UT0010033m01119184428442464464', 8, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (5,  12000, '2023-10-11 08:43:12', 477758874451968000, 3, 'UT0010033m01012402495695638073', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (6,  12000, '2023-10-11 08:43:12', 477758874451968000, 3, 'UT0010033m01011011918442487826', 7, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (7,  12000, '2023-10-11 08:43:12', 477758874451968000, 3, 'UT0010033m01012414963916391664', 8, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (8,  12000, '2023-10-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012454119184823792', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (9,  12000, '2023-10-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011918398664', 7, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (10, 12000, '2023-10-31 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011914459464', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (11, 12000, '2023-10-31 08:43:12', 477758874451968000, 3, 'UT0010033m01012401049722842664', 8, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (12, 12000, '2023-12-11 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011918442484', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (13, 12000, '2023-12-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011259563807', 7, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (14, 12000, '2023-12-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011918378526', 8, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (15, 12000, '2023-12-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012401019846963916', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (16, 12000, '2023-12-21 08:43:12', 477758874451968000, 3, 'UT0010033m01012401024958997923', 7, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (17, 12000, '2023-12-31 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011918394986', 8, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (18, 12000, '2023-12-31 08:43:12', 477758874451968000, 3, 'UT0010033m01012401238475923164', 9, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (19, 12000, '2023-12-31 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011912978426', 7, 1);
+insert into order_check (id, price, order_date, order_reference, quantity, tid, option_id, user_id) values (20, 12000, '2024-01-01 08:43:12', 477758874451968000, 3, 'UT0010033m01012401011918442464', 9, 1);
 
 insert into product_comment (id, contents, create_time, star, update_time, order_check_id) values (1,  'OC', '2023-10-16 08:43:12', 3, '2023-10-26 08:43:12', 5);
 insert into product_comment (id, contents, create_time, star, update_time, order_check_id) values (2,  'NA', '2023-10-14 08:43:12', 5, '2023-09-09 08:43:12', 6);
@@ -0,0 +1,63 @@
+package com.example.funitureOnlineShop.cart;
+
+import com.example.funitureOnlineShop.option.Option;
+import com.example.funitureOnlineShop.option.OptionRepository;
+import com.example.funitureOnlineShop.product.Product;
+import com.example.funitureOnlineShop.product.ProductRepository;
+import com.example.funitureOnlineShop.user.User;
+import com.example.funitureOnlineShop.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 테스트용 회원 + 장바구니 생성 (data.sql 의 1번 상품에 항목마다 새 옵션을 만들어 담음)
+public class CartFixture {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CartRepository cartRepository;
+
+    public CartFixture(UserRepository userRepository, ProductRepository productRepository,
+                       OptionRepository optionRepository, CartRepository cartRepository) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.cartRepository = cartRepository;
+    }
+
+    public User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .email(name + System.nanoTime() + "@test.com")
+                .password("password")
+                .username(name)
+                .phoneNumber("01000000000")
+                .address("address")
+                .roles(Collections.singletonList("ROLE_USER"))
+                .build());
+    }
+
+    public List<Cart> saveCarts(User user, int lines, String optionName) {
+        Product product = productRepository.findById(PRODUCT_ID).get();
+
+        List<Cart> carts = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Option option = optionRepository.save(Option.builder()
+                    .optionName(optionName + " " + i)
+                    .price(1000L)
+                    .stockQuantity(100L)
+                    .product(product)
+                    .build());
+            carts.add(Cart.builder()
+                    .user(user)
+                    .option(option)
+                    .quantity(1L)
+                    .price(1000L)
+                    .build());
+        }
+        return cartRepository.saveAll(carts);
+    }
+}
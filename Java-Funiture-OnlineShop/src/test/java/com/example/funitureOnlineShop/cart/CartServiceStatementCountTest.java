@@ -0,0 +1,116 @@
+package com.example.funitureOnlineShop.cart;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception404;
+import com.example.funitureOnlineShop.option.OptionRepository;
+import com.example.funitureOnlineShop.product.ProductRepository;
+import com.example.funitureOnlineShop.user.User;
+import com.example.funitureOnlineShop.user.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 장바구니 조회(캐시 미스) / 삭제가 항목 수와 무관하게 SQL 한 문장으로 처리되는지 확인 (DB 필요)
+@SpringBootTest
+class CartServiceStatementCountTest {
+
+    private static final int LINES = 20;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private CartFixture cartFixture;
+
+    @BeforeEach
+    void setUp() {
+        cartFixture = new CartFixture(userRepository, productRepository, optionRepository, cartRepository);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findAllOnCacheMissIsOneStatement() {
+        User user = saveUser();
+        saveCarts(user, LINES);
+
+        statistics.clear();
+        CartResponse.FindAllDto dto = cartService.findAllByUserId(user.getId());
+
+        assertEquals(LINES, dto.getProducts().get(0).getCartDtos().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // ** 두 번째 조회는 캐시에서
+        statistics.clear();
+        cartService.findAllByUserId(user.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteCartListIsOneStatement() {
+        User user = saveUser();
+        List<CartResponse.DeleteDTO> deleteDTOS = toDeleteDTOS(saveCarts(user, LINES));
+
+        statistics.clear();
+        cartService.deleteCartList(deleteDTOS, user.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, cartRepository.findAllByUserId(user.getId()).size());
+    }
+
+    @Test
+    void deleteCartListRollsBackWhenOtherUsersCartIsIncluded() {
+        User owner = saveUser();
+        User other = saveUser();
+        List<CartResponse.DeleteDTO> deleteDTOS = toDeleteDTOS(saveCarts(owner, 3));
+        deleteDTOS.addAll(toDeleteDTOS(saveCarts(other, 1)));
+
+        assertThrows(Exception404.class, () -> cartService.deleteCartList(deleteDTOS, owner.getId()));
+
+        assertEquals(3, cartRepository.findAllByUserId(owner.getId()).size());
+        assertEquals(1, cartRepository.findAllByUserId(other.getId()).size());
+    }
+
+    private User saveUser() {
+        return cartFixture.saveUser("cart");
+    }
+
+    private List<Cart> saveCarts(User user, int lines) {
+        return cartFixture.saveCarts(user, lines, "장바구니 테스트");
+    }
+
+    private List<CartResponse.DeleteDTO> toDeleteDTOS(List<Cart> carts) {
+        List<CartResponse.DeleteDTO> deleteDTOS = new ArrayList<>();
+        for (Cart cart : carts) {
+            CartResponse.DeleteDTO dto = new CartResponse.DeleteDTO();
+            dto.setCartId(cart.getId());
+            deleteDTOS.add(dto);
+        }
+        return deleteDTOS;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.funitureOnlineShop.core.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 아웃박스 발행 -> 전달 -> 완료, 실패 재시도 -> 포기, 멈춘 PROCESSING 재발행 확인 (DB 필요)
+@SpringBootTest
+class OutboxDispatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Test
+    void publishedEventIsDeliveredAndMarkedPublished() throws InterruptedException {
+        String name = "ok-" + UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxPublisher.publish(name, new OutboxTestEvent(name)));
+        Long id = eventId(name);
+
+        OutboxEvent event = await(id, e -> e.getState() == OutboxEvent.State.PUBLISHED);
+
+        assertNotNull(event.getPublishedAt());
+        assertEquals(0, event.getAttempts());
+        assertEquals(1, listener.calls(name));
+    }
+
+    @Test
+    void failingEventIsRetriedUntilMaxAttemptsThenGivenUp() throws InterruptedException {
+        String name = "fail-" + UUID.randomUUID();
+        long deadBefore = outboxDispatcher.stats().getDead();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxPublisher.publish(name, new OutboxTestEvent(name)));
+        Long id = eventId(name);
+
+        OutboxEvent event = await(id, e -> e.getAttempts() >= OutboxDispatcher.MAX_ATTEMPTS);
+
+        assertEquals(OutboxEvent.State.FAILED, event.getState());
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, event.getAttempts());
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, listener.calls(name));
+
+        // 포기한 이벤트는 더 이상 발행 대상이 아님
+        List<Long> toPublish = outboxEventRepository.findIdsToPublish(OutboxEvent.State.PENDING,
+                OutboxEvent.State.FAILED, OutboxDispatcher.MAX_ATTEMPTS, PageRequest.of(0, Integer.MAX_VALUE));
+        assertFalse(toPublish.contains(id));
+        outboxDispatcher.poll();
+        Thread.sleep(200);
+        assertEquals(OutboxDispatcher.MAX_ATTEMPTS, listener.calls(name));
+
+        assertEquals(deadBefore + 1, outboxDispatcher.stats().getDead());
+    }
+
+    @Test
+    void staleProcessingEventIsReleasedAndDeliveredAgain() throws InterruptedException {
+        String staleName = "ok-" + UUID.randomUUID();
+        String freshName = "ok-" + UUID.randomUUID();
+        // 발행 도중 서버가 내려간 상황 : 10분 전에 선점된 채 남은 이벤트와 방금 선점된 이벤트
+        Long staleId = saveProcessing(staleName, LocalDateTime.now().minusMinutes(10));
+        Long freshId = saveProcessing(freshName, LocalDateTime.now());
+
+        outboxDispatcher.releaseStale();
+
+        await(staleId, e -> e.getState() == OutboxEvent.State.PUBLISHED);
+        assertEquals(1, listener.calls(staleName));
+
+        assertEquals(OutboxEvent.State.PROCESSING, outboxEventRepository.findById(freshId).get().getState());
+        assertEquals(0, listener.calls(freshName));
+    }
+
+    private Long saveProcessing(String name, LocalDateTime claimedAt) {
+        return transactionTemplate.execute(status -> {
+            OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                    .type(OutboxTestEvent.class.getSimpleName())
+                    .aggregateId(name)
+                    .payload("{\"name\":\"" + name + "\"}")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            outboxEventRepository.claim(event.getId(), OutboxEvent.State.PROCESSING,
+                    List.of(OutboxEvent.State.PENDING), claimedAt);
+            return event.getId();
+        });
+    }
+
+    private Long eventId(String aggregateId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> aggregateId.equals(event.getAggregateId()))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    // 주기 조회를 기다리지 않도록 직접 조회를 요청하면서 조건을 만족할 때까지 대기
+    private OutboxEvent await(Long id, Predicate<OutboxEvent> done) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            OutboxEvent event = outboxEventRepository.findById(id).orElseThrow();
+            if (done.test(event))
+                return event;
+            if (System.currentTimeMillis() > deadline)
+                fail("시간 안에 처리되지 않음. state : " + event.getState() + ", attempts : " + event.getAttempts());
+            outboxDispatcher.poll();
+            Thread.sleep(50);
+        }
+    }
+
+    public static class OutboxTestEvent {
+        private String name;
+
+        public OutboxTestEvent() {
+        }
+
+        public OutboxTestEvent(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    // 이름이 fail 로 시작하는 이벤트는 항상 실패
+    static class RecordingListener implements OutboxListener<OutboxTestEvent> {
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        @Override
+        public Class<OutboxTestEvent> eventType() {
+            return OutboxTestEvent.class;
+        }
+
+        @Override
+        public void on(OutboxTestEvent event) {
+            calls.computeIfAbsent(event.getName(), name -> new AtomicInteger()).incrementAndGet();
+            if (event.getName().startsWith("fail"))
+                throw new IllegalStateException("리스너 실패 : " + event.getName());
+        }
+
+        int calls(String name) {
+            AtomicInteger count = calls.get(name);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
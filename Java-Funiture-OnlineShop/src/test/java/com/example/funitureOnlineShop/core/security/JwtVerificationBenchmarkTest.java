@@ -0,0 +1,56 @@
+package com.example.funitureOnlineShop.core.security;
+
+import com.example.funitureOnlineShop.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 토큰 검증 비용: 필터의 캐시 미스 경로(cold) vs 캐시 조회(cached) 비교 (-Dbenchmark=true 일 때만 실행)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtVerificationBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @AfterEach
+    void clear() {
+        VerifiedTokenCache.clear();
+    }
+
+    @Test
+    void cachedVerificationIsFasterThanCold() {
+        User user = User.builder().id(1L).email("bench@test.com").roles(List.of("ROLE_USER", "ROLE_ADMIN")).build();
+        String jwt = JwtTokenProvider.create(user).replace(JwtTokenProvider.TOKEN_PREFIX, "");
+
+        measure(jwt, JwtAuthenticationFilter::verifyAndCache, WARMUP);
+        double coldNanos = measure(jwt, JwtAuthenticationFilter::verifyAndCache, ITERATIONS);
+
+        JwtAuthenticationFilter.verifyAndCache(jwt);
+        measure(jwt, this::cached, WARMUP);
+        double cachedNanos = measure(jwt, this::cached, ITERATIONS);
+
+        System.out.printf("cold : %.0f ns/op, cached : %.0f ns/op%n", coldNanos, cachedNanos);
+        assertEquals(1L, cached(jwt).getUserDetails().getUser().getId());
+        assertTrue(cachedNanos < coldNanos, "cold=" + coldNanos + ", cached=" + cachedNanos);
+    }
+
+    private VerifiedTokenCache.Entry cached(String jwt) {
+        VerifiedTokenCache.Entry entry = VerifiedTokenCache.get(jwt);
+        assertNotNull(entry);
+        return entry;
+    }
+
+    private double measure(String jwt, Function<String, VerifiedTokenCache.Entry> verify, int iterations) {
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+            verify.apply(jwt);
+        return (System.nanoTime() - started) / (double) iterations;
+    }
+}
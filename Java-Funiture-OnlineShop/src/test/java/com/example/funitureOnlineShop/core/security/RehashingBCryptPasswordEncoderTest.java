@@ -0,0 +1,33 @@
+package com.example.funitureOnlineShop.core.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// cost 를 올리거나 내리면 다시 해시 대상이 되는지 확인 (DB 불필요)
+class RehashingBCryptPasswordEncoderTest {
+
+    private static final String RAW = "password";
+
+    @Test
+    void sameCostIsNotRehashed() {
+        String encoded = new RehashingBCryptPasswordEncoder(5).encode(RAW);
+
+        assertFalse(new RehashingBCryptPasswordEncoder(5).upgradeEncoding(encoded));
+    }
+
+    @Test
+    void lowerStoredCostIsRehashed() {
+        String encoded = new RehashingBCryptPasswordEncoder(4).encode(RAW);
+
+        assertTrue(new RehashingBCryptPasswordEncoder(5).upgradeEncoding(encoded));
+    }
+
+    @Test
+    void higherStoredCostIsRehashed() {
+        String encoded = new RehashingBCryptPasswordEncoder(6).encode(RAW);
+
+        assertTrue(new RehashingBCryptPasswordEncoder(5).upgradeEncoding(encoded));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.funitureOnlineShop.option;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+import com.example.funitureOnlineShop.product.Product;
+import com.example.funitureOnlineShop.product.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 동시 결제 시 재고보다 많이 팔리지 않는지 확인 (DB 필요)
+@SpringBootTest
+class OptionServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int CHECKOUTS = 2000;
+
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void concurrentCheckoutsNeverOversell() throws Exception {
+        Long optionId = saveOption(100L);
+
+        Result result = run(() -> optionService.reserve(Collections.singletonMap(optionId, 1L)));
+
+        assertEquals(100, result.success.get());
+        assertEquals(CHECKOUTS - 100, result.soldOut.get());
+        assertEquals(0L, stockOf(optionId));
+    }
+
+    @Test
+    void multiItemCheckoutIsAllOrNothing() throws Exception {
+        Long first = saveOption(50L);
+        Long second = saveOption(80L);
+
+        // 주문마다 옵션 순서를 섞어도 id 순서로 차감되어 교착 상태가 생기지 않음
+        AtomicInteger sequence = new AtomicInteger();
+        Result result = run(() -> {
+            Map<Long, Long> quantities = new LinkedHashMap<>();
+            if (sequence.incrementAndGet() % 2 == 0) {
+                quantities.put(first, 1L);
+                quantities.put(second, 1L);
+            } else {
+                quantities.put(second, 1L);
+                quantities.put(first, 1L);
+            }
+            optionService.reserve(quantities);
+        });
+
+        assertEquals(50, result.success.get());
+        assertEquals(0L, stockOf(first));
+        assertEquals(30L, stockOf(second));
+    }
+
+    private Result run(Runnable checkout) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Result result = new Result();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    checkout.run();
+                    result.success.incrementAndGet();
+                } catch (Exception400 e) {
+                    result.soldOut.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        return result;
+    }
+
+    private Long saveOption(Long stockQuantity) {
+        Product product = productRepository.findById(1L).get();
+        Option option = Option.builder()
+                .optionName("재고 테스트")
+                .price(1000L)
+                .stockQuantity(stockQuantity)
+                .product(product)
+                .build();
+        return optionRepository.save(option).getId();
+    }
+
+    private Long stockOf(Long optionId) {
+        return optionRepository.findById(optionId).get().getStockQuantity();
+    }
+
+    private static class Result {
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger soldOut = new AtomicInteger();
+    }
+}
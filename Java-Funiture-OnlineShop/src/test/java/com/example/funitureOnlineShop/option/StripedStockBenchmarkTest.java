@@ -0,0 +1,96 @@
+package com.example.funitureOnlineShop.option;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception400;
+import com.example.funitureOnlineShop.product.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 분할 수에 따른 결제 처리량 비교 (DB 필요, -Dbenchmark=true 일 때만 실행)
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StripedStockBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int CHECKOUTS = 5000;
+    private static final long STOCK = 1_000_000L;
+
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionStockStripeRepository optionStockStripeRepository;
+
+    @Test
+    void throughputScalesWithStripeCount() throws Exception {
+        // 분할 1 은 분할 재고 없이 option_tb 한 행에서 차감
+        for (int stripes : new int[]{1, 4, 16, 64}) {
+            Long optionId = saveOption();
+            if (stripes > 1)
+                optionService.enableStriping(optionId, stripes);
+
+            long started = System.nanoTime();
+            int sold = run(() -> optionService.reserve(Collections.singletonMap(optionId, 1L)));
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            long remaining = stripes > 1
+                    ? optionStockStripeRepository.findQuantitiesByOptionId(optionId).stream().mapToLong(Long::longValue).sum()
+                    : optionRepository.findById(optionId).get().getStockQuantity();
+
+            assertEquals(CHECKOUTS, sold);
+            assertEquals(STOCK - CHECKOUTS, remaining);
+            System.out.printf("stripes=%d : %.0f checkouts/s%n", stripes, CHECKOUTS / seconds);
+        }
+    }
+
+    private int run(Runnable checkout) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger sold = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    checkout.run();
+                    sold.incrementAndGet();
+                } catch (Exception400 ignored) {
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(120, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        return sold.get();
+    }
+
+    private Long saveOption() {
+        Option option = Option.builder()
+                .optionName("분할 재고 벤치마크")
+                .price(1000L)
+                .stockQuantity(STOCK)
+                .product(productRepository.findById(1L).get())
+                .build();
+        return optionRepository.save(option).getId();
+    }
+}
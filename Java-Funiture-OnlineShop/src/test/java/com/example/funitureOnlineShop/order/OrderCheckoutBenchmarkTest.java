@@ -0,0 +1,75 @@
+package com.example.funitureOnlineShop.order;
+
+import com.example.funitureOnlineShop.cart.CartFixture;
+import com.example.funitureOnlineShop.cart.CartRepository;
+import com.example.funitureOnlineShop.option.OptionRepository;
+import com.example.funitureOnlineShop.product.ProductRepository;
+import com.example.funitureOnlineShop.user.User;
+import com.example.funitureOnlineShop.user.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 장바구니 항목 수에 따른 주문 생성 시간 / SQL 문 수 비교 (DB 필요, -Dbenchmark=true 일 때만 실행)
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderCheckoutBenchmarkTest {
+
+    // 항목 수와 무관하게 실행되어야 하는 SQL 문 수의 상한
+    // (장바구니 조회 1 + 주문 insert 1 + id 할당 + 배치 insert 묶음 수)
+    private static final long MAX_STATEMENTS = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void checkoutStatementsDoNotGrowWithCartSize() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        for (int lines : new int[]{1, 50, 500}) {
+            User user = fillCart(lines);
+
+            statistics.clear();
+            long started = System.nanoTime();
+            OrderResponse.FindByIdDTO order = orderService.save(user);
+            double millis = (System.nanoTime() - started) / 1_000_000.0;
+
+            long statements = statistics.getPrepareStatementCount();
+            System.out.printf("lines=%d : %.1f ms, %d statements%n", lines, millis, statements);
+
+            assertEquals(lines, order.getProductDTOS().stream().mapToInt(product -> product.getItems().size()).sum());
+            assertTrue(statements <= MAX_STATEMENTS, "statements=" + statements);
+        }
+    }
+
+    private User fillCart(int lines) {
+        CartFixture cartFixture = new CartFixture(userRepository, productRepository, optionRepository, cartRepository);
+        User user = cartFixture.saveUser("checkout");
+        cartFixture.saveCarts(user, lines, "주문 벤치마크");
+        return user;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// NicePay API 로컬 스텁 (승인 / 취소 / 조회).
+// 테스트에서는 지연과 실패를 주입하고, 부하 테스트 때는 main 으로 띄운 뒤
+// payment.gateway.base-url 을 http://localhost:<port> 로 지정
+public class NicepayStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Set<String> paid = ConcurrentHashMap.newKeySet();
+
+    // 승인 요청마다 응답 전에 기다릴 시간 (ms)
+    private volatile long approveLatencyMillis;
+
+    // 남은 수만큼 503 응답
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+
+    // 남은 수만큼 승인은 처리한 뒤 504 응답 (프록시가 응답을 기다리다 끊은 상황)
+    private final AtomicInteger gatewayTimeoutsToInject = new AtomicInteger();
+
+    private final AtomicInteger approveRequests = new AtomicInteger();
+
+    public NicepayStubServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/payments/", this::handle);
+        server.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        new NicepayStubServer(port);
+        System.out.println("NicePay stub : http://localhost:" + port);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setApproveLatencyMillis(long approveLatencyMillis) {
+        this.approveLatencyMillis = approveLatencyMillis;
+    }
+
+    public void failNext(int count) {
+        failuresToInject.set(count);
+    }
+
+    public void gatewayTimeoutNext(int count) {
+        gatewayTimeoutsToInject.set(count);
+    }
+
+    public int approveRequests() {
+        return approveRequests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String tid = path.substring("/v1/payments/".length()).replace("/cancel", "");
+
+        if (failuresToInject.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+            respond(exchange, 503, "");
+            return;
+        }
+
+        if ("GET".equals(exchange.getRequestMethod())) {
+            String status = paid.contains(tid) ? "paid" : "ready";
+            respond(exchange, 200, "{\"resultCode\":\"0000\",\"resultMsg\":\"정상 처리되었습니다.\",\"tid\":\"" + tid
+                    + "\",\"status\":\"" + status + "\"}");
+        } else if (path.endsWith("/cancel")) {
+            paid.remove(tid);
+            respond(exchange, 200, "{\"resultCode\":\"0000\",\"resultMsg\":\"취소 성공\",\"tid\":\"" + tid
+                    + "\",\"status\":\"canceled\"}");
+        } else {
+            approveRequests.incrementAndGet();
+            paid.add(tid);
+            sleep(approveLatencyMillis);
+            if (gatewayTimeoutsToInject.getAndUpdate(n -> Math.max(n - 1, 0)) > 0) {
+                respond(exchange, 504, "");
+                return;
+            }
+            respond(exchange, 200, "{\"resultCode\":\"0000\",\"resultMsg\":\"정상 처리되었습니다.\",\"tid\":\"" + tid
+                    + "\",\"status\":\"paid\"}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0)
+            return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
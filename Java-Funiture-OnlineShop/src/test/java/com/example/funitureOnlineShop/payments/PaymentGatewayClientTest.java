@@ -0,0 +1,78 @@
+package com.example.funitureOnlineShop.payments;
+
+import com.example.funitureOnlineShop.core.error.exception.Exception503;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 로컬 스텁 서버로 재시도 / 시간 제한 동작 확인 (DB 불필요)
+class PaymentGatewayClientTest {
+
+    private NicepayStubServer stub;
+    private PaymentGatewayClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new NicepayStubServer(0);
+        client = new PaymentGatewayClient(new ObjectMapper(), stub.baseUrl(), "client", "secret",
+                Duration.ofMillis(500), Duration.ofMillis(300), 3, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void approve() {
+        JsonNode response = client.approve("tid-1", 1000L);
+
+        assertEquals("0000", response.path("resultCode").asText());
+        assertEquals(1, stub.approveRequests());
+    }
+
+    @Test
+    void retriesInquiryWhenGatewayIsUnavailable() {
+        stub.failNext(2);
+
+        JsonNode response = client.find("tid-2");
+
+        assertEquals("0000", response.path("resultCode").asText());
+    }
+
+    @Test
+    void doesNotRepostApprovalWhenGatewayIsUnavailable() {
+        stub.failNext(1);
+
+        // 승인 요청은 503, 조회해 보니 승인되지 않음
+        assertThrows(Exception503.class, () -> client.approve("tid-4", 1000L));
+        assertEquals(0, stub.approveRequests());
+    }
+
+    @Test
+    void confirmsByInquiryInsteadOfApprovingTwiceOnGatewayTimeout() {
+        stub.gatewayTimeoutNext(1);
+
+        JsonNode response = client.approve("tid-5", 1000L);
+
+        assertEquals("paid", response.path("status").asText());
+        assertEquals(1, stub.approveRequests());
+    }
+
+    @Test
+    void confirmsByInquiryInsteadOfApprovingTwiceOnTimeout() {
+        stub.setApproveLatencyMillis(1000);
+
+        JsonNode response = client.approve("tid-3", 1000L);
+
+        assertEquals("paid", response.path("status").asText());
+        assertEquals(1, stub.approveRequests());
+    }
+}
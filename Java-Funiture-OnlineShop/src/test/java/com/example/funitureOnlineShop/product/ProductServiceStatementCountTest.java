@@ -0,0 +1,129 @@
+package com.example.funitureOnlineShop.product;
+
+import com.example.funitureOnlineShop.category.Category;
+import com.example.funitureOnlineShop.category.CategoryRepository;
+import com.example.funitureOnlineShop.option.Option;
+import com.example.funitureOnlineShop.option.OptionRepository;
+import com.example.funitureOnlineShop.productFile.ProductFile;
+import com.example.funitureOnlineShop.productFile.ProductFileRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 상품 상세 조회가 옵션 / 이미지 수와 무관하게 상품(+ 카테고리, 옵션) 1번 + 이미지 1번으로 처리되는지 확인 (DB 필요)
+@SpringBootTest
+class ProductServiceStatementCountTest {
+
+    // data.sql 의 하위 카테고리
+    private static final Long CATEGORY_ID = 44L;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private ProductFileRepository productFileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void detailIsOneQueryRegardlessOfOptionCount() {
+        for (int options : new int[]{1, 20}) {
+            Long productId = saveProduct(options, 1);
+
+            statistics.clear();
+            int loaded = transactionTemplate.execute(status -> {
+                Product product = productRepository.findDetailById(productId).get();
+                product.getCategory().getCategoryName();
+                return product.getOptions().size();
+            });
+
+            assertEquals(options, loaded);
+            assertEquals(1, statistics.getPrepareStatementCount(), "옵션 " + options + "개");
+        }
+    }
+
+    @Test
+    void findByIdIsProductQueryPlusImageQuery() {
+        for (int options : new int[]{1, 20}) {
+            for (int images : new int[]{1, 10}) {
+                Long productId = saveProduct(options, images);
+
+                statistics.clear();
+                ProductResponse.FindByIdDTO dto = productService.findById(productId);
+
+                assertEquals(productId, dto.getId());
+                assertEquals(options, dto.getOptionList().size());
+                assertEquals(images, dto.getFiles().size());
+                // 상품 + 카테고리 + 옵션 1번, 이미지 1번
+                assertEquals(2, statistics.getPrepareStatementCount(),
+                        "옵션 " + options + "개, 이미지 " + images + "개");
+            }
+        }
+    }
+
+    private Long saveProduct(int options, int images) {
+        Category category = categoryRepository.findById(CATEGORY_ID).get();
+        Product product = productRepository.save(Product.builder()
+                .productName("상세 조회 테스트")
+                .description("상세 조회 테스트")
+                .price(1000L)
+                .deliveryFee(500L)
+                .category(category)
+                .build());
+
+        List<Option> optionList = new ArrayList<>();
+        for (int i = 0; i < options; i++) {
+            optionList.add(Option.builder()
+                    .optionName("상세 조회 테스트 " + i)
+                    .price(1000L)
+                    .stockQuantity(100L)
+                    .product(product)
+                    .build());
+        }
+        optionRepository.saveAll(optionList);
+
+        List<ProductFile> fileList = new ArrayList<>();
+        for (int i = 0; i < images; i++) {
+            fileList.add(ProductFile.builder()
+                    .fileName("image-" + i + ".png")
+                    .uuid("statement-count-" + i)
+                    .fileType("image/png")
+                    .fileSize(1L)
+                    .product(product)
+                    .build());
+        }
+        productFileRepository.saveAll(fileList);
+        return product.getId();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.funitureOnlineShop.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// 코어당 초당 로그인 수 측정 (DB 필요, -Dbenchmark=true 일 때만 실행)
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoginThroughputBenchmarkTest {
+
+    private static final int LOGINS = 500;
+    private static final String PASSWORD = "bench1234!";
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void loginsPerSecondPerCore() throws Exception {
+        UserRequest.LoginDto loginDto = join();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // 워밍업
+        for (int i = 0; i < 20; i++)
+            userService.login(loginDto, new MockHttpServletResponse());
+
+        ExecutorService executor = Executors.newFixedThreadPool(cores);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < LOGINS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return userService.login(loginDto, new MockHttpServletResponse());
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<String> future : futures)
+            assertNotNull(future.get(120, TimeUnit.SECONDS));
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        System.out.printf("cores=%d : %.1f logins/s, %.1f logins/s/core%n",
+                cores, LOGINS / seconds, LOGINS / seconds / cores);
+    }
+
+    private UserRequest.LoginDto join() {
+        String email = "bench" + UUID.randomUUID().toString().substring(0, 8) + "@test.com";
+
+        UserRequest.JoinDto joinDto = new UserRequest.JoinDto();
+        joinDto.setEmail(email);
+        joinDto.setPassword(PASSWORD);
+        joinDto.setUsername("로그인 벤치마크");
+        joinDto.setPhoneNumber("01000000000");
+        joinDto.setAddress("벤치마크");
+        userService.join(joinDto);
+
+        UserRequest.LoginDto loginDto = new UserRequest.LoginDto();
+        loginDto.setEmail(email);
+        loginDto.setPassword(PASSWORD);
+        return loginDto;
+    }
+}